@@ -0,0 +1,123 @@
+package com.gesticar.benchmarks;
+
+import com.gesticar.backend.BackendApplication;
+import com.gesticar.backend.dto.BudgetBatchRequest;
+import com.gesticar.backend.dto.BudgetRequest;
+import com.gesticar.backend.dto.BudgetResponse;
+import com.gesticar.backend.dto.TaskBatchRequest;
+import com.gesticar.backend.dto.TaskRequest;
+import com.gesticar.backend.dto.TaskResponse;
+import com.gesticar.backend.service.BulkCreationService;
+import com.gesticar.backend.service.WorkOrderCommandService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkCreationBenchmark {
+
+    @Param({"10", "100"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private WorkOrderCommandService workOrderCommandService;
+    private BulkCreationService bulkCreationService;
+    private JdbcTemplate jdbc;
+    private Long customerId;
+    private int workOrders;
+    private List<TaskRequest> taskRequests;
+    private List<BudgetRequest> budgetRequests;
+    private TaskBatchRequest taskBatch;
+    private BudgetBatchRequest budgetBatch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("benchmark")
+                .run();
+        workOrderCommandService = context.getBean(WorkOrderCommandService.class);
+        bulkCreationService = context.getBean(BulkCreationService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("INSERT INTO customers (rut, first_name, last_name) VALUES ('40.000.000-1', 'Cliente', 'Lote')");
+        customerId = jdbc.queryForObject("SELECT id FROM customers WHERE rut = '40.000.000-1'", Long.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void nextWorkOrder() {
+        String code = "BM-LOTE-" + ++workOrders;
+        jdbc.update("INSERT INTO work_orders (code, description, status, customer_id) "
+                + "VALUES (?, 'Mantención completa', 'INICIADA', ?)", code, customerId);
+        Long workOrderId = jdbc.queryForObject("SELECT id FROM work_orders WHERE code = ?", Long.class, code);
+
+        taskRequests = IntStream.range(0, rows)
+                .mapToObj(i -> new TaskRequest("Tarea " + i, "Revisión del componente " + i, i % 4 + 1, workOrderId))
+                .toList();
+        budgetRequests = IntStream.range(0, rows)
+                .mapToObj(i -> new BudgetRequest(BigDecimal.valueOf(10_000 + i), i % 2 == 0, "Ítem " + i,
+                        workOrderId))
+                .toList();
+        taskBatch = new TaskBatchRequest(workOrderId, taskRequests.stream()
+                .map(task -> new TaskBatchRequest.Item(task.title(), task.details(), task.estimatedHours()))
+                .toList());
+        budgetBatch = new BudgetBatchRequest(workOrderId, budgetRequests.stream()
+                .map(budget -> new BudgetBatchRequest.Item(budget.amount(), budget.approved(), budget.notes()))
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> tasksPerRow() {
+        List<TaskResponse> responses = new ArrayList<>(rows);
+        for (TaskRequest request : taskRequests) {
+            responses.add(workOrderCommandService.addTask(request));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<TaskResponse> tasksBatch() {
+        return bulkCreationService.createTasks(taskBatch);
+    }
+
+    @Benchmark
+    public List<BudgetResponse> budgetsPerRow() {
+        List<BudgetResponse> responses = new ArrayList<>(rows);
+        for (BudgetRequest request : budgetRequests) {
+            responses.add(workOrderCommandService.addBudget(request));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<BudgetResponse> budgetsBatch() {
+        return bulkCreationService.createBudgets(budgetBatch);
+    }
+}
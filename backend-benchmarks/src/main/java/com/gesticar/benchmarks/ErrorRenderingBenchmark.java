@@ -0,0 +1,67 @@
+package com.gesticar.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.controller.WorkOrderController;
+import com.gesticar.backend.dto.WorkOrderRequest;
+import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.exception.RestExceptionHandler;
+import com.gesticar.backend.exception.ServiceUnavailableException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorRenderingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private RestExceptionHandler handler;
+    private MethodArgumentNotValidException validationError;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        objectMapper = Fixtures.objectMapper();
+        handler = new RestExceptionHandler();
+        WorkOrderRequest request = new WorkOrderRequest(null, null, null, 1L, null);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, "workOrderRequest");
+        bindingResult.addError(new FieldError("workOrderRequest", "code", "no debe estar vacío"));
+        MethodParameter parameter = new MethodParameter(
+                WorkOrderController.class.getMethod("create", WorkOrderRequest.class), 0);
+        validationError = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public byte[] notFound() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                handler.handleNotFound(new ResourceNotFoundException("OT no encontrada")).getBody());
+    }
+
+    @Benchmark
+    public byte[] validation() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleValidation(validationError).getBody());
+    }
+
+    @Benchmark
+    public byte[] serviceUnavailable() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleServiceUnavailable(
+                new ServiceUnavailableException("Servicio saturado, intenta nuevamente")).getBody());
+    }
+}
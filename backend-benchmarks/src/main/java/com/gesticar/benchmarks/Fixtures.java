@@ -0,0 +1,84 @@
+package com.gesticar.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gesticar.backend.domain.Budget;
+import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.domain.Task;
+import com.gesticar.backend.domain.Vehicle;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static WorkOrder workOrderGraph(int taskCount, int budgetCount) {
+        Customer customer = new Customer();
+        setId(customer, 1L);
+        customer.setRut("12.345.678-9");
+        customer.setFirstName("Ana");
+        customer.setLastName("Carvallo");
+        customer.setPhone("+56911111111");
+        customer.setEmail("ana@correo.com");
+
+        Vehicle vehicle = new Vehicle();
+        setId(vehicle, 1L);
+        vehicle.setLicensePlate("AA-BB-11");
+        vehicle.setBrand("Toyota");
+        vehicle.setModel("Corolla");
+        vehicle.setYear(2018);
+        vehicle.setCustomer(customer);
+        customer.getVehicles().add(vehicle);
+
+        WorkOrder workOrder = new WorkOrder();
+        setId(workOrder, 1L);
+        workOrder.setCode("OT-001");
+        workOrder.setDescription("Mantención de 100.000 km con cambio de distribución");
+        workOrder.setStatus(WorkOrderStatus.INICIADA);
+        workOrder.setCreatedAt();
+        workOrder.setCustomer(customer);
+        workOrder.setVehicle(vehicle);
+
+        for (int i = 1; i <= taskCount; i++) {
+            Task task = new Task();
+            setId(task, (long) i);
+            task.setTitle("Tarea " + i);
+            task.setDetails("Revisión y ajuste del componente " + i);
+            task.setEstimatedHours(i % 4 + 1);
+            task.setWorkOrder(workOrder);
+            workOrder.getTasks().add(task);
+        }
+        for (int i = 1; i <= budgetCount; i++) {
+            Budget budget = new Budget();
+            setId(budget, (long) i);
+            budget.setAmount(BigDecimal.valueOf(125_000L * i, 2));
+            budget.setApproved(i % 2 == 0);
+            budget.setNotes("Presupuesto alternativo " + i);
+            budget.setWorkOrder(workOrder);
+            workOrder.getBudgets().add(budget);
+        }
+        return workOrder;
+    }
+
+    private static void setId(Object entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
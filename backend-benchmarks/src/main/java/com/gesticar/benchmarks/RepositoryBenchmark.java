@@ -0,0 +1,142 @@
+package com.gesticar.benchmarks;
+
+import com.gesticar.backend.BackendApplication;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.CustomerResponse;
+import com.gesticar.backend.dto.VehicleResponse;
+import com.gesticar.backend.dto.WorkOrderDetailResponse;
+import com.gesticar.backend.dto.WorkOrderResponse;
+import com.gesticar.backend.dto.WorkOrderSearchRequest;
+import com.gesticar.backend.repository.CustomerRepository;
+import com.gesticar.backend.repository.VehicleRepository;
+import com.gesticar.backend.repository.WorkOrderRepository;
+import com.gesticar.backend.service.WorkOrderDetailService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param("500")
+    public int customers;
+
+    @Param("20")
+    public int workOrdersPerCustomer;
+
+    private ConfigurableApplicationContext context;
+    private CustomerRepository customerRepository;
+    private VehicleRepository vehicleRepository;
+    private WorkOrderRepository workOrderRepository;
+    private WorkOrderDetailService workOrderDetailService;
+    private List<String> ruts;
+    private List<Long> customerIds;
+    private List<Long> workOrderIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("benchmark")
+                .run();
+        customerRepository = context.getBean(CustomerRepository.class);
+        vehicleRepository = context.getBean(VehicleRepository.class);
+        workOrderRepository = context.getBean(WorkOrderRepository.class);
+        workOrderDetailService = context.getBean(WorkOrderDetailService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<CustomerResponse> customerByRut() {
+        return customerRepository.findResponseByRut(pick(ruts));
+    }
+
+    @Benchmark
+    public Slice<VehicleResponse> vehiclesByCustomer() {
+        return vehicleRepository.findResponsePageByCustomerIdAfter(pick(customerIds), 0L, Pageable.ofSize(50));
+    }
+
+    @Benchmark
+    public Slice<WorkOrderResponse> workOrdersByCustomer() {
+        return workOrderRepository.findResponsePageByCustomerId(pick(customerIds), Pageable.ofSize(50));
+    }
+
+    @Benchmark
+    public Slice<WorkOrderResponse> workOrderFirstPage() {
+        return workOrderRepository.findResponsePage(Pageable.ofSize(50));
+    }
+
+    @Benchmark
+    public Slice<WorkOrderResponse> workOrderSearchByStatus() {
+        WorkOrderSearchRequest criteria = new WorkOrderSearchRequest(WorkOrderStatus.INICIADA,
+                null, null, null, null, null, null);
+        return workOrderRepository.search(criteria, null, Pageable.ofSize(50));
+    }
+
+    @Benchmark
+    public WorkOrderDetailResponse workOrderDetail() {
+        return workOrderDetailService.findDetail(pick(workOrderIds));
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        WorkOrderStatus[] statuses = WorkOrderStatus.values();
+        for (int c = 0; c < customers; c++) {
+            String rut = String.format("%08d-%d", 30_000_000 + c, c % 10);
+            jdbc.update("INSERT INTO customers (rut, first_name, last_name, phone, email) VALUES (?, ?, ?, ?, ?)",
+                    rut, "Cliente", "Benchmark " + c, "+5690000" + c, "cliente" + c + "@correo.com");
+            Long customerId = jdbc.queryForObject("SELECT id FROM customers WHERE rut = ?", Long.class, rut);
+            jdbc.update("INSERT INTO vehicles (license_plate, brand, model, year, customer_id) VALUES (?, ?, ?, ?, ?)",
+                    "BM-" + c, "Toyota", "Yaris", 2015 + c % 10, customerId);
+            Long vehicleId = jdbc.queryForObject("SELECT id FROM vehicles WHERE license_plate = ?", Long.class,
+                    "BM-" + c);
+            List<Object[]> workOrders = new ArrayList<>();
+            for (int w = 0; w < workOrdersPerCustomer; w++) {
+                workOrders.add(new Object[]{"BM-" + c + "-" + w, "Servicio programado " + w,
+                        statuses[w % statuses.length].name(), customerId, vehicleId});
+            }
+            jdbc.batchUpdate("INSERT INTO work_orders (code, description, status, customer_id, vehicle_id) "
+                    + "VALUES (?, ?, ?, ?, ?)", workOrders);
+        }
+        jdbc.update("INSERT INTO tasks (title, details, estimated_hours, work_order_id) "
+                + "SELECT 'Diagnóstico', 'Revisión general', 2, id FROM work_orders");
+        jdbc.update("INSERT INTO budgets (amount, approved, notes, work_order_id) "
+                + "SELECT 150000, FALSE, 'Repuestos y mano de obra', id FROM work_orders");
+        ruts = jdbc.queryForList("SELECT rut FROM customers", String.class);
+        customerIds = jdbc.queryForList("SELECT id FROM customers", Long.class);
+        workOrderIds = jdbc.queryForList("SELECT id FROM work_orders", Long.class);
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.gesticar.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.WorkOrderDetailResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private WorkOrder workOrder;
+    private WorkOrderDetailResponse detail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        workOrder = Fixtures.workOrderGraph(20, 5);
+        detail = WorkOrderDetailResponse.from(workOrder);
+    }
+
+    @Benchmark
+    public byte[] entityGraph() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(workOrder);
+    }
+
+    @Benchmark
+    public byte[] detailRecord() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeDetailRecord() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(WorkOrderDetailResponse.from(workOrder));
+    }
+}
@@ -0,0 +1,56 @@
+package com.gesticar.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+record Catalog(URI baseUri, List<Long> customerIds, List<String> ruts, List<Long> workOrderIds) {
+
+    static Catalog discover(HttpClient client, URI baseUri) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode customers = fetch(client, objectMapper, baseUri.resolve("/api/clientes?limit=200"));
+        JsonNode workOrders = fetch(client, objectMapper, baseUri.resolve("/api/ots?limit=200"));
+        List<Long> customerIds = new ArrayList<>();
+        List<String> ruts = new ArrayList<>();
+        customers.forEach(customer -> {
+            customerIds.add(customer.get("id").asLong());
+            ruts.add(customer.get("rut").asText());
+        });
+        List<Long> workOrderIds = new ArrayList<>();
+        workOrders.forEach(workOrder -> workOrderIds.add(workOrder.get("id").asLong()));
+        if (customerIds.isEmpty() || workOrderIds.isEmpty()) {
+            throw new IllegalStateException("El backend no tiene clientes u OTs para generar carga");
+        }
+        return new Catalog(baseUri, List.copyOf(customerIds), List.copyOf(ruts), List.copyOf(workOrderIds));
+    }
+
+    long customerId(RandomGenerator random) {
+        return customerIds.get(random.nextInt(customerIds.size()));
+    }
+
+    String rut(RandomGenerator random) {
+        return ruts.get(random.nextInt(ruts.size()));
+    }
+
+    long workOrderId(RandomGenerator random) {
+        return workOrderIds.get(random.nextInt(workOrderIds.size()));
+    }
+
+    private static JsonNode fetch(HttpClient client, ObjectMapper objectMapper, URI uri)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + uri + " respondió " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
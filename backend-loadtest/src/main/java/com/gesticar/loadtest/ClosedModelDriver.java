@@ -0,0 +1,79 @@
+package com.gesticar.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class ClosedModelDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final Catalog catalog;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong unfinished = new AtomicLong();
+
+    ClosedModelDriver(HttpClient client, Catalog catalog) {
+        this.client = client;
+        this.catalog = catalog;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    Map<Operation, OperationStats> run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        SplittableRandom seed = new SplittableRandom();
+        List<Thread> threads = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            SplittableRandom random = seed.split();
+            Thread thread = new Thread(() -> loop(random, measureFrom, end), "cliente-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        long deadline = end + DRAIN_TIMEOUT.toNanos();
+        for (Thread thread : threads) {
+            thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            if (thread.isAlive()) {
+                unfinished.incrementAndGet();
+            }
+        }
+        return stats;
+    }
+
+    long unfinished() {
+        return unfinished.get();
+    }
+
+    private void loop(SplittableRandom random, long measureFrom, long end) {
+        long started;
+        while ((started = System.nanoTime()) < end) {
+            Operation operation = Operation.pick(random);
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(operation.request(catalog, random),
+                        HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (IOException ex) {
+                failed = true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (started >= measureFrom) {
+                stats.get(operation).record(System.nanoTime() - started, failed);
+            }
+        }
+    }
+}
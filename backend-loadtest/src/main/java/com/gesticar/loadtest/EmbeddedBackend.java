@@ -0,0 +1,71 @@
+package com.gesticar.loadtest;
+
+import com.gesticar.backend.BackendApplication;
+import com.gesticar.backend.domain.Ruts;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+final class EmbeddedBackend implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedBackend(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static EmbeddedBackend start(LoadTestOptions options) {
+        String[] profiles = options.virtualThreads()
+                ? new String[]{"loadtest", "virtual-threads"}
+                : new String[]{"loadtest"};
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0")
+                .run();
+        EmbeddedBackend backend = new EmbeddedBackend(context);
+        backend.seed(options.customers(), options.workOrdersPerCustomer());
+        return backend;
+    }
+
+    URI baseUri() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private void seed(int customers, int workOrdersPerCustomer) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        WorkOrderStatus[] statuses = WorkOrderStatus.values();
+        for (int c = 0; c < customers; c++) {
+            String rut = Ruts.format(String.format("%08d-%d", 40_000_000 + c, c % 10)).orElseThrow();
+            jdbc.update("INSERT INTO customers (rut, first_name, last_name, phone, email) VALUES (?, ?, ?, ?, ?)",
+                    rut, "Cliente", "Carga " + c, "+5690000" + c, "carga" + c + "@correo.com");
+            Long customerId = jdbc.queryForObject("SELECT id FROM customers WHERE rut = ?", Long.class, rut);
+            jdbc.update("INSERT INTO vehicles (license_plate, brand, model, year, customer_id) VALUES (?, ?, ?, ?, ?)",
+                    "LT-" + c, "Chevrolet", "Sail", 2012 + c % 12, customerId);
+            Long vehicleId = jdbc.queryForObject("SELECT id FROM vehicles WHERE license_plate = ?", Long.class,
+                    "LT-" + c);
+            List<Object[]> workOrders = new ArrayList<>();
+            for (int w = 0; w < workOrdersPerCustomer; w++) {
+                workOrders.add(new Object[]{"LT-" + c + "-" + w, "Servicio programado " + w,
+                        statuses[w % statuses.length].name(), customerId, vehicleId});
+            }
+            jdbc.batchUpdate("INSERT INTO work_orders (code, description, status, customer_id, vehicle_id) "
+                    + "VALUES (?, ?, ?, ?, ?)", workOrders);
+        }
+        jdbc.update("INSERT INTO tasks (title, details, estimated_hours, work_order_id) "
+                + "SELECT 'Diagnóstico', 'Revisión general', 2, id FROM work_orders");
+        jdbc.update("INSERT INTO budgets (amount, approved, notes, work_order_id) "
+                + "SELECT 150000, FALSE, 'Repuestos y mano de obra', id FROM work_orders");
+    }
+}
@@ -0,0 +1,71 @@
+package com.gesticar.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        int status;
+        try {
+            status = run(LoadTestOptions.parse(args));
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            status = 2;
+        }
+        System.exit(status);
+    }
+
+    private static int run(LoadTestOptions options) throws Exception {
+        EmbeddedBackend backend = options.embedded() ? EmbeddedBackend.start(options) : null;
+        try {
+            URI baseUri = backend != null ? backend.baseUri() : options.target();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            Catalog catalog = Catalog.discover(client, baseUri);
+            Map<Operation, OperationStats> stats;
+            long unfinished;
+            if (options.closedModel()) {
+                ClosedModelDriver driver = new ClosedModelDriver(client, catalog);
+                stats = driver.run(options.clients(), options.warmup(), options.duration());
+                unfinished = driver.unfinished();
+            } else {
+                OpenModelDriver driver = new OpenModelDriver(client, catalog);
+                stats = driver.run(options.rate(), options.warmup(), options.duration());
+                unfinished = driver.unfinished();
+            }
+            String report = Report.render(options, stats, unfinished);
+            if (options.report().getParent() != null) {
+                Files.createDirectories(options.report().getParent());
+            }
+            Files.writeString(options.report(), report);
+            System.out.println(report);
+            System.out.println("Reporte guardado en " + options.report());
+
+            double errorPercent = Report.errorPercent(stats);
+            if (errorPercent > options.maxErrorPercent()) {
+                System.err.printf(Locale.ROOT, "La tasa de error %.2f %% supera el máximo de %.2f %%%n",
+                        errorPercent, options.maxErrorPercent());
+                return 1;
+            }
+            if (unfinished > 0) {
+                System.err.println("Quedaron " + unfinished + " solicitudes sin terminar");
+                return 1;
+            }
+            return 0;
+        } finally {
+            if (backend != null) {
+                backend.close();
+            }
+        }
+    }
+}
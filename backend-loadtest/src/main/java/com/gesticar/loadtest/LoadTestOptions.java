@@ -0,0 +1,54 @@
+package com.gesticar.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestOptions(
+        URI target,
+        double rate,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        int customers,
+        int workOrdersPerCustomer,
+        boolean virtualThreads,
+        double maxErrorPercent,
+        Path report
+) {
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String threads = values.getOrDefault("threads", "platform");
+        if (!threads.equals("platform") && !threads.equals("virtual")) {
+            throw new IllegalArgumentException("--threads debe ser platform o virtual");
+        }
+        return new LoadTestOptions(
+                values.containsKey("target") ? URI.create(values.get("target")) : null,
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                Integer.parseInt(values.getOrDefault("clients", "0")),
+                Duration.parse("PT" + values.getOrDefault("warmup", "10s")),
+                Duration.parse("PT" + values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("customers", "500")),
+                Integer.parseInt(values.getOrDefault("work-orders-per-customer", "20")),
+                threads.equals("virtual"),
+                Double.parseDouble(values.getOrDefault("max-error-percent", "1")),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.md")));
+    }
+
+    public boolean embedded() {
+        return target == null;
+    }
+
+    public boolean closedModel() {
+        return clients > 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.gesticar.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+final class OpenModelDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final Catalog catalog;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    OpenModelDriver(HttpClient client, Catalog catalog) {
+        this.client = client;
+        this.catalog = catalog;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    Map<Operation, OperationStats> run(double rate, Duration warmup, Duration duration) {
+        SplittableRandom random = new SplittableRandom();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long intended = start;
+        while (true) {
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(Operation.pick(random), random.split(), intended, intended >= measureFrom);
+        }
+        drain();
+        return stats;
+    }
+
+    long unfinished() {
+        return dropped.get();
+    }
+
+    private void send(Operation operation, SplittableRandom random, long intendedStart, boolean measured) {
+        inFlight.incrementAndGet();
+        client.sendAsync(operation.request(catalog, random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (measured) {
+                        boolean failed = error != null || response.statusCode() >= 400;
+                        stats.get(operation).record(System.nanoTime() - intendedStart, failed);
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        dropped.set(inFlight.get());
+    }
+}
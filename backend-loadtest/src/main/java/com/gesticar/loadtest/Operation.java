@@ -0,0 +1,134 @@
+package com.gesticar.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+enum Operation {
+
+    LIST_WORK_ORDERS("GET /api/ots", 20) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/ots?limit=50");
+        }
+    },
+    WORK_ORDERS_BY_CUSTOMER("GET /api/ots?customerId", 10) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/ots?customerId=" + catalog.customerId(random));
+        }
+    },
+    WORK_ORDER_BY_ID("GET /api/ots/{id}", 10) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/ots/" + catalog.workOrderId(random));
+        }
+    },
+    WORK_ORDER_DETAIL("GET /api/ots/{id}/detalle", 5) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/ots/" + catalog.workOrderId(random) + "/detalle");
+        }
+    },
+    SEARCH_WORK_ORDERS("GET /api/ots/buscar?status", 5) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/ots/buscar?status=INICIADA&limit=50");
+        }
+    },
+    CUSTOMER_BY_RUT("GET /api/clientes?rut", 15) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/clientes?rut=" + URLEncoder.encode(catalog.rut(random), StandardCharsets.UTF_8));
+        }
+    },
+    VEHICLES_BY_CUSTOMER("GET /api/vehiculos?customerId", 10) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/vehiculos?customerId=" + catalog.customerId(random));
+        }
+    },
+    TASKS_BY_WORK_ORDER("GET /api/tareas?workOrderId", 10) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/tareas?workOrderId=" + catalog.workOrderId(random));
+        }
+    },
+    BUDGETS_BY_WORK_ORDER("GET /api/presupuestos?workOrderId", 10) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return get(catalog, "/api/presupuestos?workOrderId=" + catalog.workOrderId(random));
+        }
+    },
+    CREATE_WORK_ORDER("POST /api/ots", 3) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return post(catalog, "/api/ots", """
+                    {"code":"CARGA-%d","description":"OT de prueba de carga","customerId":%d}
+                    """.formatted(SEQUENCE.incrementAndGet(), catalog.customerId(random)));
+        }
+    },
+    CREATE_TASK("POST /api/tareas", 2) {
+        @Override
+        HttpRequest.Builder build(Catalog catalog, RandomGenerator random) {
+            return post(catalog, "/api/tareas", """
+                    {"title":"Tarea de carga","estimatedHours":1,"workOrderId":%d}
+                    """.formatted(catalog.workOrderId(random)));
+        }
+    };
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis());
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final int TOTAL_WEIGHT = totalWeight();
+
+    private final String label;
+    private final int weight;
+
+    Operation(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    HttpRequest request(Catalog catalog, RandomGenerator random) {
+        return build(catalog, random).timeout(TIMEOUT).build();
+    }
+
+    abstract HttpRequest.Builder build(Catalog catalog, RandomGenerator random);
+
+    static Operation pick(RandomGenerator random) {
+        int ticket = random.nextInt(TOTAL_WEIGHT);
+        for (Operation operation : values()) {
+            ticket -= operation.weight;
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (Operation operation : values()) {
+            total += operation.weight;
+        }
+        return total;
+    }
+
+    private static HttpRequest.Builder get(Catalog catalog, String path) {
+        return HttpRequest.newBuilder(URI.create(catalog.baseUri() + path)).GET();
+    }
+
+    private static HttpRequest.Builder post(Catalog catalog, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(catalog.baseUri() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+}
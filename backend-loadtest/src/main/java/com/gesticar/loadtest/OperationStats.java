@@ -0,0 +1,36 @@
+package com.gesticar.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class OperationStats {
+
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(1), 3);
+    private final LongAdder errors = new LongAdder();
+
+    OperationStats() {
+        latencies.setAutoResize(true);
+    }
+
+    void record(long latencyNanos, boolean failed) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+}
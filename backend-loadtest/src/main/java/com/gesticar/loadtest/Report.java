@@ -0,0 +1,79 @@
+package com.gesticar.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+
+final class Report {
+
+    private Report() {
+    }
+
+    static String render(LoadTestOptions options, Map<Operation, OperationStats> stats, long unfinished) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        StringBuilder out = new StringBuilder();
+        out.append("# Prueba de carga Gesticar\n\n");
+        out.append("- Fecha: ").append(OffsetDateTime.now().truncatedTo(ChronoUnit.SECONDS)).append('\n');
+        out.append("- Objetivo: ").append(options.embedded()
+                ? "backend embebido sobre H2, hilos " + (options.virtualThreads() ? "virtuales" : "de plataforma")
+                : options.target()).append('\n');
+        if (options.embedded()) {
+            out.append("- Datos: ").append(options.customers()).append(" clientes, ")
+                    .append(options.workOrdersPerCustomer()).append(" OTs por cliente\n");
+        }
+        if (options.closedModel()) {
+            out.append(String.format(Locale.ROOT,
+                    "- Clientes: %d concurrentes en lazo cerrado, sin pausa, calentamiento %ds, medición %ds%n",
+                    options.clients(), options.warmup().toSeconds(), options.duration().toSeconds()));
+        } else {
+            out.append(String.format(Locale.ROOT, "- Llegadas: Poisson a %.1f req/s, calentamiento %ds, medición %ds%n",
+                    options.rate(), options.warmup().toSeconds(), options.duration().toSeconds()));
+        }
+        out.append("- JVM: ").append(Runtime.version()).append(", ")
+                .append(Runtime.getRuntime().availableProcessors()).append(" CPUs\n");
+        if (unfinished > 0) {
+            out.append("- Solicitudes sin terminar al cierre: ").append(unfinished).append('\n');
+        }
+        out.append(options.closedModel()
+                ? "\nLatencias en ms medidas desde el envío de cada solicitud.\n\n"
+                : "\nLatencias en ms medidas desde el instante de llegada programado.\n\n");
+        out.append("| Endpoint | Solicitudes | Errores | % error | req/s | p50 | p90 | p99 | p99.9 | máx |\n");
+        out.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        Histogram total = new Histogram(3);
+        total.setAutoResize(true);
+        long totalErrors = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operation = entry.getValue();
+            total.add(operation.latencies());
+            totalErrors += operation.errors();
+            row(out, entry.getKey().label(), operation.latencies(), operation.errors(), seconds);
+        }
+        row(out, "**Total**", total, totalErrors, seconds);
+        return out.toString();
+    }
+
+    static double errorPercent(Map<Operation, OperationStats> stats) {
+        long count = 0;
+        long errors = 0;
+        for (OperationStats operation : stats.values()) {
+            count += operation.count();
+            errors += operation.errors();
+        }
+        return count == 0 ? 0.0 : 100.0 * errors / count;
+    }
+
+    private static void row(StringBuilder out, String label, Histogram latencies, long errors, double seconds) {
+        long count = latencies.getTotalCount();
+        out.append(String.format(Locale.ROOT, "| %s | %d | %d | %.2f | %.1f | %.2f | %.2f | %.2f | %.2f | %.2f |%n",
+                label, count, errors, count == 0 ? 0.0 : 100.0 * errors / count, count / seconds,
+                millis(latencies, 50), millis(latencies, 90), millis(latencies, 99), millis(latencies, 99.9),
+                latencies.getMaxValue() / 1000.0));
+    }
+
+    private static double millis(Histogram latencies, double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -1,12 +1,22 @@
 package com.gesticar.backend.controller;
 
-import com.gesticar.backend.domain.Budget;
-import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.BudgetBatchRequest;
+import com.gesticar.backend.dto.BudgetItemsRequest;
+import com.gesticar.backend.dto.BudgetItemsResponse;
 import com.gesticar.backend.dto.BudgetRequest;
-import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.dto.BudgetResponse;
+import com.gesticar.backend.dto.BudgetSummaryRequest;
+import com.gesticar.backend.dto.BudgetSummaryResponse;
+import com.gesticar.backend.pagination.Cursor;
+import com.gesticar.backend.pagination.KeysetPages;
 import com.gesticar.backend.repository.BudgetRepository;
-import com.gesticar.backend.repository.WorkOrderRepository;
+import com.gesticar.backend.service.BudgetItemService;
+import com.gesticar.backend.service.BulkCreationService;
+import com.gesticar.backend.service.WorkOrderCommandService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -17,31 +27,55 @@ import java.util.List;
 public class BudgetController {
 
     private final BudgetRepository budgetRepository;
-    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderCommandService workOrderCommandService;
+    private final BulkCreationService bulkCreationService;
+    private final BudgetItemService budgetItemService;
 
-    public BudgetController(BudgetRepository budgetRepository, WorkOrderRepository workOrderRepository) {
+    public BudgetController(BudgetRepository budgetRepository, WorkOrderCommandService workOrderCommandService,
+                            BulkCreationService bulkCreationService, BudgetItemService budgetItemService) {
         this.budgetRepository = budgetRepository;
-        this.workOrderRepository = workOrderRepository;
+        this.workOrderCommandService = workOrderCommandService;
+        this.bulkCreationService = bulkCreationService;
+        this.budgetItemService = budgetItemService;
     }
 
     @GetMapping
-    public List<Budget> findAll(@RequestParam(value = "workOrderId", required = false) Long workOrderId) {
-        if (workOrderId != null) {
-            return budgetRepository.findByWorkOrderId(workOrderId);
-        }
-        return budgetRepository.findAll();
+    public ResponseEntity<List<BudgetResponse>> findAll(
+            @RequestParam(value = "workOrderId", required = false) Long workOrderId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId = cursor != null ? Cursor.decode(cursor).id() : 0L;
+        Pageable pageable = KeysetPages.request(limit);
+        Slice<BudgetResponse> slice = workOrderId != null
+                ? budgetRepository.findResponsePageByWorkOrderIdAfter(workOrderId, afterId, pageable)
+                : budgetRepository.findResponsePageAfter(afterId, pageable);
+        return KeysetPages.respond(slice, budget -> Cursor.of(budget.id()));
+    }
+
+    @GetMapping("/resumen")
+    public List<BudgetSummaryResponse> summarize(BudgetSummaryRequest request) {
+        return budgetRepository.summarize(request);
+    }
+
+    @GetMapping("/{id}/items")
+    public BudgetItemsResponse findItems(@PathVariable Long id) {
+        return budgetItemService.findItems(id);
+    }
+
+    @PutMapping("/{id}/items")
+    public BudgetItemsResponse replaceItems(@PathVariable Long id, @Valid @RequestBody BudgetItemsRequest request) {
+        return budgetItemService.replaceItems(id, request);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Budget create(@Valid @RequestBody BudgetRequest request) {
-        WorkOrder workOrder = workOrderRepository.findById(request.workOrderId())
-                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
-        Budget budget = new Budget();
-        budget.setAmount(request.amount());
-        budget.setApproved(Boolean.TRUE.equals(request.approved()));
-        budget.setNotes(request.notes());
-        budget.setWorkOrder(workOrder);
-        return budgetRepository.save(budget);
+    public BudgetResponse create(@Valid @RequestBody BudgetRequest request) {
+        return workOrderCommandService.addBudget(request);
+    }
+
+    @PostMapping("/lote")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<BudgetResponse> createBatch(@Valid @RequestBody BudgetBatchRequest request) {
+        return bulkCreationService.createBudgets(request);
     }
 }
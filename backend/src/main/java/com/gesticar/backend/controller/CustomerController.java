@@ -1,13 +1,27 @@
 package com.gesticar.backend.controller;
 
 import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.domain.Ruts;
 import com.gesticar.backend.dto.CustomerRequest;
+import com.gesticar.backend.dto.CustomerResponse;
+import com.gesticar.backend.dto.ImportReportResponse;
+import com.gesticar.backend.exception.InvalidRequestException;
 import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.imports.CustomerVehicleImportService;
+import com.gesticar.backend.imports.ImportFormat;
+import com.gesticar.backend.pagination.Cursor;
+import com.gesticar.backend.pagination.KeysetPages;
 import com.gesticar.backend.repository.CustomerRepository;
+import com.gesticar.backend.service.CustomerLookupService;
+import com.gesticar.backend.web.ETags;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,34 +29,56 @@ import java.util.List;
 public class CustomerController {
 
     private final CustomerRepository customerRepository;
+    private final CustomerLookupService customerLookupService;
+    private final CustomerVehicleImportService importService;
 
-    public CustomerController(CustomerRepository customerRepository) {
+    public CustomerController(CustomerRepository customerRepository, CustomerLookupService customerLookupService,
+                              CustomerVehicleImportService importService) {
         this.customerRepository = customerRepository;
+        this.customerLookupService = customerLookupService;
+        this.importService = importService;
     }
 
     @GetMapping
-    public List<Customer> findAll(@RequestParam(value = "rut", required = false) String rut) {
+    public ResponseEntity<List<CustomerResponse>> findAll(
+            @RequestParam(value = "rut", required = false) String rut,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
         if (rut != null && !rut.isBlank()) {
-            return customerRepository.findByRut(rut).map(List::of).orElse(List.of());
+            return ResponseEntity.ok(customerLookupService.findByRut(Ruts.canonical(rut)).map(List::of).orElse(List.of()));
         }
-        return customerRepository.findAll();
+        Long afterId = cursor != null ? Cursor.decode(cursor).id() : 0L;
+        return KeysetPages.respond(customerRepository.findResponsePageAfter(afterId, KeysetPages.request(limit)),
+                customer -> Cursor.of(customer.id()));
     }
 
     @GetMapping("/{id}")
-    public Customer findById(@PathVariable Long id) {
-        return customerRepository.findById(id)
+    public ResponseEntity<CustomerResponse> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = customerRepository.findVersionById(id).map(ETags::of)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado"));
+        return ETags.respond(etag, ifNoneMatch, () -> customerLookupService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado")));
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Customer create(@Valid @RequestBody CustomerRequest request) {
+    public CustomerResponse create(@Valid @RequestBody CustomerRequest request) {
         Customer customer = new Customer();
-        customer.setRut(request.rut());
+        customer.setRut(Ruts.normalize(request.rut())
+                .orElseThrow(() -> new InvalidRequestException("RUT inválido")));
         customer.setFirstName(request.firstName());
         customer.setLastName(request.lastName());
         customer.setPhone(request.phone());
         customer.setEmail(request.email());
-        return customerRepository.save(customer);
+        return customerLookupService.store(CustomerResponse.from(customerRepository.save(customer)));
+    }
+
+    @PostMapping(value = "/importar", consumes = {ImportFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ImportReportResponse importRows(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        return importService.importRows(body, ImportFormat.of(contentType));
     }
 }
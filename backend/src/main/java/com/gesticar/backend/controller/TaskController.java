@@ -1,12 +1,17 @@
 package com.gesticar.backend.controller;
 
-import com.gesticar.backend.domain.Task;
-import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.TaskBatchRequest;
 import com.gesticar.backend.dto.TaskRequest;
-import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.dto.TaskResponse;
+import com.gesticar.backend.pagination.Cursor;
+import com.gesticar.backend.pagination.KeysetPages;
 import com.gesticar.backend.repository.TaskRepository;
-import com.gesticar.backend.repository.WorkOrderRepository;
+import com.gesticar.backend.service.BulkCreationService;
+import com.gesticar.backend.service.WorkOrderCommandService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -17,31 +22,38 @@ import java.util.List;
 public class TaskController {
 
     private final TaskRepository taskRepository;
-    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderCommandService workOrderCommandService;
+    private final BulkCreationService bulkCreationService;
 
-    public TaskController(TaskRepository taskRepository, WorkOrderRepository workOrderRepository) {
+    public TaskController(TaskRepository taskRepository, WorkOrderCommandService workOrderCommandService,
+                          BulkCreationService bulkCreationService) {
         this.taskRepository = taskRepository;
-        this.workOrderRepository = workOrderRepository;
+        this.workOrderCommandService = workOrderCommandService;
+        this.bulkCreationService = bulkCreationService;
     }
 
     @GetMapping
-    public List<Task> findAll(@RequestParam(value = "workOrderId", required = false) Long workOrderId) {
-        if (workOrderId != null) {
-            return taskRepository.findByWorkOrderId(workOrderId);
-        }
-        return taskRepository.findAll();
+    public ResponseEntity<List<TaskResponse>> findAll(
+            @RequestParam(value = "workOrderId", required = false) Long workOrderId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId = cursor != null ? Cursor.decode(cursor).id() : 0L;
+        Pageable pageable = KeysetPages.request(limit);
+        Slice<TaskResponse> slice = workOrderId != null
+                ? taskRepository.findResponsePageByWorkOrderIdAfter(workOrderId, afterId, pageable)
+                : taskRepository.findResponsePageAfter(afterId, pageable);
+        return KeysetPages.respond(slice, task -> Cursor.of(task.id()));
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Task create(@Valid @RequestBody TaskRequest request) {
-        WorkOrder workOrder = workOrderRepository.findById(request.workOrderId())
-                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
-        Task task = new Task();
-        task.setTitle(request.title());
-        task.setDetails(request.details());
-        task.setEstimatedHours(request.estimatedHours());
-        task.setWorkOrder(workOrder);
-        return taskRepository.save(task);
+    public TaskResponse create(@Valid @RequestBody TaskRequest request) {
+        return workOrderCommandService.addTask(request);
+    }
+
+    @PostMapping("/lote")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<TaskResponse> createBatch(@Valid @RequestBody TaskBatchRequest request) {
+        return bulkCreationService.createTasks(request);
     }
 }
@@ -1,12 +1,23 @@
 package com.gesticar.backend.controller;
 
 import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.domain.Plates;
 import com.gesticar.backend.domain.Vehicle;
 import com.gesticar.backend.dto.VehicleRequest;
+import com.gesticar.backend.dto.VehicleResponse;
+import com.gesticar.backend.exception.InvalidRequestException;
 import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.pagination.Cursor;
+import com.gesticar.backend.pagination.KeysetPages;
 import com.gesticar.backend.repository.CustomerRepository;
 import com.gesticar.backend.repository.VehicleRepository;
+import com.gesticar.backend.service.VehicleLookupService;
+import com.gesticar.backend.web.ETags;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -18,37 +29,55 @@ public class VehicleController {
 
     private final VehicleRepository vehicleRepository;
     private final CustomerRepository customerRepository;
+    private final VehicleLookupService vehicleLookupService;
 
-    public VehicleController(VehicleRepository vehicleRepository, CustomerRepository customerRepository) {
+    public VehicleController(VehicleRepository vehicleRepository, CustomerRepository customerRepository,
+                             VehicleLookupService vehicleLookupService) {
         this.vehicleRepository = vehicleRepository;
         this.customerRepository = customerRepository;
+        this.vehicleLookupService = vehicleLookupService;
     }
 
     @GetMapping
-    public List<Vehicle> findAll(@RequestParam(value = "customerId", required = false) Long customerId) {
-        if (customerId != null) {
-            return vehicleRepository.findByCustomerId(customerId);
+    public ResponseEntity<List<VehicleResponse>> findAll(
+            @RequestParam(value = "customerId", required = false) Long customerId,
+            @RequestParam(value = "plate", required = false) String plate,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (plate != null && !plate.isBlank()) {
+            return ResponseEntity.ok(vehicleLookupService.findByPlate(Plates.canonical(plate))
+                    .map(List::of).orElse(List.of()));
         }
-        return vehicleRepository.findAll();
+        Long afterId = cursor != null ? Cursor.decode(cursor).id() : 0L;
+        Pageable pageable = KeysetPages.request(limit);
+        Slice<VehicleResponse> slice = customerId != null
+                ? vehicleRepository.findResponsePageByCustomerIdAfter(customerId, afterId, pageable)
+                : vehicleRepository.findResponsePageAfter(afterId, pageable);
+        return KeysetPages.respond(slice, vehicle -> Cursor.of(vehicle.id()));
     }
 
     @GetMapping("/{id}")
-    public Vehicle findById(@PathVariable Long id) {
-        return vehicleRepository.findById(id)
+    public ResponseEntity<VehicleResponse> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = vehicleRepository.findVersionById(id).map(ETags::of)
                 .orElseThrow(() -> new ResourceNotFoundException("Vehículo no encontrado"));
+        return ETags.respond(etag, ifNoneMatch, () -> vehicleLookupService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Vehículo no encontrado")));
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Vehicle create(@Valid @RequestBody VehicleRequest request) {
+    public VehicleResponse create(@Valid @RequestBody VehicleRequest request) {
         Customer customer = customerRepository.findById(request.customerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado"));
         Vehicle vehicle = new Vehicle();
-        vehicle.setLicensePlate(request.licensePlate());
+        vehicle.setLicensePlate(Plates.normalize(request.licensePlate())
+                .orElseThrow(() -> new InvalidRequestException("Patente inválida")));
         vehicle.setBrand(request.brand());
         vehicle.setModel(request.model());
         vehicle.setYear(request.year());
         vehicle.setCustomer(customer);
-        return vehicleRepository.save(vehicle);
+        return vehicleLookupService.store(VehicleResponse.from(vehicleRepository.save(vehicle)));
     }
 }
@@ -1,16 +1,36 @@
 package com.gesticar.backend.controller;
 
-import com.gesticar.backend.domain.Customer;
-import com.gesticar.backend.domain.Vehicle;
-import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.ShopFloorCountersResponse;
+import com.gesticar.backend.dto.WorkOrderCodeBlockResponse;
+import com.gesticar.backend.dto.WorkOrderDetailResponse;
 import com.gesticar.backend.dto.WorkOrderRequest;
+import com.gesticar.backend.dto.WorkOrderResponse;
+import com.gesticar.backend.dto.WorkOrderSearchHit;
+import com.gesticar.backend.dto.WorkOrderSearchRequest;
 import com.gesticar.backend.dto.WorkOrderStatusRequest;
+import com.gesticar.backend.exception.InvalidRequestException;
 import com.gesticar.backend.exception.ResourceNotFoundException;
-import com.gesticar.backend.repository.CustomerRepository;
-import com.gesticar.backend.repository.VehicleRepository;
+import com.gesticar.backend.pagination.Cursor;
+import com.gesticar.backend.pagination.KeysetPages;
+import com.gesticar.backend.pagination.SearchCursor;
 import com.gesticar.backend.repository.WorkOrderRepository;
+import com.gesticar.backend.search.WorkOrderTextSearch;
+import com.gesticar.backend.service.ShopFloorCounters;
+import com.gesticar.backend.service.WorkOrderCodeAllocator;
+import com.gesticar.backend.service.WorkOrderCommandService;
+import com.gesticar.backend.service.WorkOrderDetailService;
+import com.gesticar.backend.service.WorkOrderExportService;
+import com.gesticar.backend.web.ETags;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -19,57 +39,130 @@ import java.util.List;
 @RequestMapping("/api/ots")
 public class WorkOrderController {
 
+    private static final int MAX_SEARCH_LENGTH = 200;
+
     private final WorkOrderRepository workOrderRepository;
-    private final CustomerRepository customerRepository;
-    private final VehicleRepository vehicleRepository;
+    private final WorkOrderCommandService workOrderCommandService;
+    private final WorkOrderCodeAllocator workOrderCodeAllocator;
+    private final ShopFloorCounters shopFloorCounters;
+    private final WorkOrderExportService workOrderExportService;
+    private final WorkOrderDetailService workOrderDetailService;
+    private final WorkOrderTextSearch workOrderTextSearch;
 
-    public WorkOrderController(WorkOrderRepository workOrderRepository, CustomerRepository customerRepository,
-                               VehicleRepository vehicleRepository) {
+    public WorkOrderController(WorkOrderRepository workOrderRepository,
+                               WorkOrderCommandService workOrderCommandService,
+                               WorkOrderCodeAllocator workOrderCodeAllocator,
+                               ShopFloorCounters shopFloorCounters,
+                               WorkOrderExportService workOrderExportService,
+                               WorkOrderDetailService workOrderDetailService,
+                               WorkOrderTextSearch workOrderTextSearch) {
         this.workOrderRepository = workOrderRepository;
-        this.customerRepository = customerRepository;
-        this.vehicleRepository = vehicleRepository;
+        this.workOrderCommandService = workOrderCommandService;
+        this.workOrderCodeAllocator = workOrderCodeAllocator;
+        this.shopFloorCounters = shopFloorCounters;
+        this.workOrderExportService = workOrderExportService;
+        this.workOrderDetailService = workOrderDetailService;
+        this.workOrderTextSearch = workOrderTextSearch;
     }
 
     @GetMapping
-    public List<WorkOrder> findAll(@RequestParam(value = "customerId", required = false) Long customerId) {
+    public ResponseEntity<List<WorkOrderResponse>> findAll(
+            @RequestParam(value = "customerId", required = false) Long customerId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        Pageable pageable = KeysetPages.request(limit);
+        Cursor position = workOrderCursor(cursor);
+        Slice<WorkOrderResponse> slice;
         if (customerId != null) {
-            return workOrderRepository.findByCustomerId(customerId);
+            slice = position == null
+                    ? workOrderRepository.findResponsePageByCustomerId(customerId, pageable)
+                    : workOrderRepository.findResponsePageByCustomerIdBefore(customerId, position.createdAt(),
+                    position.id(), pageable);
+        } else {
+            slice = position == null
+                    ? workOrderRepository.findResponsePage(pageable)
+                    : workOrderRepository.findResponsePageBefore(position.createdAt(), position.id(), pageable);
+        }
+        return KeysetPages.respond(slice, workOrder -> Cursor.of(workOrder.createdAt(), workOrder.id()));
+    }
+
+    @GetMapping("/buscar")
+    public ResponseEntity<List<WorkOrderResponse>> search(
+            WorkOrderSearchRequest criteria,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        Slice<WorkOrderResponse> slice = workOrderRepository.search(criteria, workOrderCursor(cursor),
+                KeysetPages.request(limit));
+        return KeysetPages.respond(slice, workOrder -> Cursor.of(workOrder.createdAt(), workOrder.id()));
+    }
+
+    @GetMapping("/busqueda")
+    public ResponseEntity<List<WorkOrderSearchHit>> searchText(
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (query.isBlank() || query.length() > MAX_SEARCH_LENGTH) {
+            throw new InvalidRequestException("El texto a buscar debe tener entre 1 y " + MAX_SEARCH_LENGTH
+                    + " caracteres");
         }
-        return workOrderRepository.findAll();
+        SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : null;
+        Slice<WorkOrderSearchHit> slice = workOrderTextSearch.search(query.trim(), after, KeysetPages.request(limit));
+        return KeysetPages.respond(slice, hit -> SearchCursor.of(hit.rank(), hit.id()));
+    }
+
+    @GetMapping(value = "/exportar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(NativeWebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(workOrderExportService.timeout().toMillis());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(workOrderExportService::export);
+    }
+
+    @GetMapping("/contadores")
+    public ShopFloorCountersResponse counters() {
+        return shopFloorCounters.snapshot();
     }
 
     @GetMapping("/{id}")
-    public WorkOrder findById(@PathVariable Long id) {
-        return workOrderRepository.findById(id)
+    public ResponseEntity<WorkOrderResponse> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = workOrderRepository.findVersionTagById(id).map(ETags::of)
                 .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
+        return ETags.respond(etag, ifNoneMatch, () -> workOrderRepository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada")));
+    }
+
+    @GetMapping("/{id}/detalle")
+    public WorkOrderDetailResponse findDetail(@PathVariable Long id) {
+        return workOrderDetailService.findDetail(id);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public WorkOrder create(@Valid @RequestBody WorkOrderRequest request) {
-        Customer customer = customerRepository.findById(request.customerId())
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado"));
-        Vehicle vehicle = request.vehicleId() != null
-                ? vehicleRepository.findById(request.vehicleId())
-                .orElseThrow(() -> new ResourceNotFoundException("Vehículo no encontrado"))
-                : null;
-
-        WorkOrder workOrder = new WorkOrder();
-        workOrder.setCode(request.code());
-        workOrder.setDescription(request.description());
-        if (request.status() != null) {
-            workOrder.setStatus(request.status());
-        }
-        workOrder.setCustomer(customer);
-        workOrder.setVehicle(vehicle);
-        return workOrderRepository.save(workOrder);
+    public WorkOrderResponse create(@Valid @RequestBody WorkOrderRequest request) {
+        return workOrderCommandService.create(request);
+    }
+
+    @PostMapping("/codigos")
+    public WorkOrderCodeBlockResponse reserveCodes() {
+        return workOrderCodeAllocator.reserveBlock();
     }
 
     @PatchMapping("/{id}/estado")
-    public WorkOrder updateStatus(@PathVariable Long id, @Valid @RequestBody WorkOrderStatusRequest request) {
-        WorkOrder workOrder = workOrderRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
-        workOrder.setStatus(request.status());
-        return workOrderRepository.save(workOrder);
+    public WorkOrderResponse updateStatus(@PathVariable Long id, @Valid @RequestBody WorkOrderStatusRequest request) {
+        return workOrderCommandService.updateStatus(id, request.status());
+    }
+
+    private static Cursor workOrderCursor(String token) {
+        if (token == null) {
+            return null;
+        }
+        Cursor position = Cursor.decode(token);
+        if (position.createdAt() == null) {
+            throw new InvalidRequestException("Cursor inválido");
+        }
+        return position;
     }
 }
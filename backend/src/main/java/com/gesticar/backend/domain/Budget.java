@@ -8,19 +8,30 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
 
 @Entity
 @Table(name = "budgets")
 public class Budget {
 
+    public static final int DEFAULT_VAT_RATE = 19;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "budgets_id_seq")
+    @SequenceGenerator(name = "budgets_id_seq", sequenceName = "budgets_id_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotNull
     @Column(nullable = false)
     private BigDecimal amount;
@@ -29,15 +40,65 @@ public class Budget {
 
     private String notes;
 
+    @Column(nullable = false)
+    private Integer vatRate = DEFAULT_VAT_RATE;
+
+    @Column(nullable = false)
+    private BigDecimal partsSubtotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private BigDecimal laborSubtotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private BigDecimal subtotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private BigDecimal vat = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private BigDecimal total = BigDecimal.ZERO;
+
     @ManyToOne
     @JoinColumn(name = "work_order_id")
     @JsonIgnoreProperties({"tasks", "budgets"})
     private WorkOrder workOrder;
 
+    @PrePersist
+    void prePersist() {
+        if (total.signum() == 0 && amount != null) {
+            subtotal = amount;
+            total = amount;
+        }
+    }
+
+    public void applyItems(Collection<BudgetItem> items, int vatRate) {
+        BigDecimal parts = BigDecimal.ZERO;
+        BigDecimal labor = BigDecimal.ZERO;
+        for (BudgetItem item : items) {
+            if (item.getType() == BudgetItemType.REP) {
+                parts = parts.add(item.getLineTotal());
+            } else {
+                labor = labor.add(item.getLineTotal());
+            }
+        }
+        this.vatRate = vatRate;
+        this.partsSubtotal = parts.setScale(2, RoundingMode.HALF_UP);
+        this.laborSubtotal = labor.setScale(2, RoundingMode.HALF_UP);
+        this.subtotal = partsSubtotal.add(laborSubtotal);
+        this.vat = subtotal.multiply(BigDecimal.valueOf(vatRate))
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        this.total = subtotal.add(vat);
+        this.amount = total;
+    }
+
     public Long getId() {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public BigDecimal getAmount() {
         return amount;
     }
@@ -62,6 +123,30 @@ public class Budget {
         this.notes = notes;
     }
 
+    public Integer getVatRate() {
+        return vatRate;
+    }
+
+    public BigDecimal getPartsSubtotal() {
+        return partsSubtotal;
+    }
+
+    public BigDecimal getLaborSubtotal() {
+        return laborSubtotal;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public BigDecimal getVat() {
+        return vat;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
     public WorkOrder getWorkOrder() {
         return workOrder;
     }
@@ -0,0 +1,6 @@
+package com.gesticar.backend.domain;
+
+public enum BudgetItemType {
+    REP,
+    MO
+}
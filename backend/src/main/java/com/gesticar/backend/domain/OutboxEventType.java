@@ -0,0 +1,8 @@
+package com.gesticar.backend.domain;
+
+public enum OutboxEventType {
+    WORK_ORDER_CREATED,
+    WORK_ORDER_STATUS_CHANGED,
+    TASK_ADDED,
+    BUDGET_ADDED
+}
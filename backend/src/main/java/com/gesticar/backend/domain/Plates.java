@@ -0,0 +1,32 @@
+package com.gesticar.backend.domain;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public final class Plates {
+
+    private static final Pattern CAR = Pattern.compile("[A-Z]{4}[0-9]{2}|[A-Z]{2}[0-9]{4}");
+    private static final Pattern MOTORCYCLE = Pattern.compile("[A-Z]{3}[0-9]{2}|[A-Z]{2}[0-9]{3}");
+
+    private Plates() {
+    }
+
+    public static String canonical(String input) {
+        return normalize(input).orElseGet(() -> input.trim().toUpperCase());
+    }
+
+    public static Optional<String> normalize(String input) {
+        if (input == null) {
+            return Optional.empty();
+        }
+        String cleaned = input.trim().toUpperCase().replace("-", "").replace(" ", "").replace(".", "");
+        if (CAR.matcher(cleaned).matches()) {
+            return Optional.of(cleaned.substring(0, 2) + "-" + cleaned.substring(2, 4) + "-" + cleaned.substring(4));
+        }
+        if (MOTORCYCLE.matcher(cleaned).matches()) {
+            int letters = Character.isDigit(cleaned.charAt(2)) ? 2 : 3;
+            return Optional.of(cleaned.substring(0, letters) + "-" + cleaned.substring(letters));
+        }
+        return Optional.empty();
+    }
+}
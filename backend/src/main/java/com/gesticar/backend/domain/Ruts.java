@@ -0,0 +1,62 @@
+package com.gesticar.backend.domain;
+
+import java.util.Optional;
+
+public final class Ruts {
+
+    private Ruts() {
+    }
+
+    public static Optional<String> normalize(String input) {
+        return format(input).filter(rut -> rut.charAt(rut.length() - 1) == verifierOf(body(rut)));
+    }
+
+    public static String canonical(String input) {
+        return format(input).orElseGet(() -> input.trim());
+    }
+
+    public static Optional<String> format(String input) {
+        if (input == null) {
+            return Optional.empty();
+        }
+        StringBuilder cleaned = new StringBuilder();
+        for (char c : input.trim().toUpperCase().toCharArray()) {
+            if (Character.isDigit(c) || c == 'K') {
+                cleaned.append(c);
+            } else if (c != '.' && c != '-' && c != ' ') {
+                return Optional.empty();
+            }
+        }
+        if (cleaned.length() < 8 || cleaned.length() > 9) {
+            return Optional.empty();
+        }
+        String body = cleaned.substring(0, cleaned.length() - 1);
+        if (body.indexOf('K') >= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(group(body) + "-" + cleaned.charAt(cleaned.length() - 1));
+    }
+
+    static char verifierOf(String body) {
+        int factor = 2;
+        int sum = 0;
+        for (int i = body.length() - 1; i >= 0; i--) {
+            sum += (body.charAt(i) - '0') * factor;
+            factor = factor == 7 ? 2 : factor + 1;
+        }
+        int rest = 11 - (sum % 11);
+        return rest == 11 ? '0' : rest == 10 ? 'K' : (char) ('0' + rest);
+    }
+
+    private static String body(String formatted) {
+        return formatted.substring(0, formatted.length() - 2).replace(".", "");
+    }
+
+    private static String group(String body) {
+        StringBuilder grouped = new StringBuilder(body);
+        for (int i = grouped.length() - 3; i > 0; i -= 3) {
+            grouped.insert(i, '.');
+        }
+        return grouped.toString();
+    }
+}
@@ -12,7 +12,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 
 import java.time.LocalDateTime;
@@ -24,9 +26,13 @@ import java.util.List;
 public class WorkOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_orders_id_seq")
+    @SequenceGenerator(name = "work_orders_id_seq", sequenceName = "work_orders_id_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank
     @Column(nullable = false, unique = true)
     private String code;
@@ -69,6 +75,10 @@ public class WorkOrder {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getCode() {
         return code;
     }
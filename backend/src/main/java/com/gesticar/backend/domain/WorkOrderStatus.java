@@ -1,7 +1,22 @@
 package com.gesticar.backend.domain;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum WorkOrderStatus {
     BORRADOR,
     INICIADA,
-    FINALIZADA
+    FINALIZADA;
+
+    public Set<WorkOrderStatus> predecessors() {
+        return switch (this) {
+            case BORRADOR -> EnumSet.of(INICIADA);
+            case INICIADA -> EnumSet.of(BORRADOR);
+            case FINALIZADA -> EnumSet.of(INICIADA);
+        };
+    }
+
+    public boolean canTransitionFrom(WorkOrderStatus current) {
+        return predecessors().contains(current);
+    }
 }
@@ -0,0 +1,21 @@
+package com.gesticar.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BudgetBatchRequest(
+        @NotNull Long workOrderId,
+        @NotEmpty @Size(max = 500) List<@NotNull @Valid Item> budgets
+) {
+    public record Item(
+            @NotNull BigDecimal amount,
+            Boolean approved,
+            String notes
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.BudgetItem;
+import com.gesticar.backend.domain.BudgetItemType;
+
+import java.math.BigDecimal;
+
+public record BudgetItemResponse(
+        Long id,
+        String clientId,
+        BudgetItemType type,
+        String description,
+        Integer quantity,
+        BigDecimal unitPrice,
+        BigDecimal lineTotal
+) {
+    public static BudgetItemResponse from(BudgetItem item) {
+        return new BudgetItemResponse(item.getId(), item.getClientId(), item.getType(), item.getDescription(),
+                item.getQuantity(), item.getUnitPrice(), item.getLineTotal());
+    }
+}
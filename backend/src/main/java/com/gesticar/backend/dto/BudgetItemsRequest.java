@@ -0,0 +1,27 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.BudgetItemType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BudgetItemsRequest(
+        @PositiveOrZero @Max(100) Integer vatRate,
+        @NotNull @Size(max = 500) List<@NotNull @Valid Item> items
+) {
+    public record Item(
+            @NotBlank @Size(max = 64) String clientId,
+            @NotNull BudgetItemType type,
+            @NotBlank @Size(max = 255) String description,
+            @NotNull @Positive Integer quantity,
+            @NotNull @PositiveOrZero BigDecimal unitPrice
+    ) {
+    }
+}
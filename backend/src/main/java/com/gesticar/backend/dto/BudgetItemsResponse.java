@@ -0,0 +1,24 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.Budget;
+import com.gesticar.backend.domain.BudgetItem;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BudgetItemsResponse(
+        Long budgetId,
+        Integer vatRate,
+        BigDecimal partsSubtotal,
+        BigDecimal laborSubtotal,
+        BigDecimal subtotal,
+        BigDecimal vat,
+        BigDecimal total,
+        List<BudgetItemResponse> items
+) {
+    public static BudgetItemsResponse from(Budget budget, List<BudgetItem> items) {
+        return new BudgetItemsResponse(budget.getId(), budget.getVatRate(), budget.getPartsSubtotal(),
+                budget.getLaborSubtotal(), budget.getSubtotal(), budget.getVat(), budget.getTotal(),
+                items.stream().map(BudgetItemResponse::from).toList());
+    }
+}
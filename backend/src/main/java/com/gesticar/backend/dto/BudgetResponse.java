@@ -0,0 +1,18 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.Budget;
+
+import java.math.BigDecimal;
+
+public record BudgetResponse(
+        Long id,
+        BigDecimal amount,
+        Boolean approved,
+        String notes,
+        Long workOrderId
+) {
+    public static BudgetResponse from(Budget budget) {
+        return new BudgetResponse(budget.getId(), budget.getAmount(), budget.getApproved(), budget.getNotes(),
+                budget.getWorkOrder() != null ? budget.getWorkOrder().getId() : null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gesticar.backend.dto;
+
+public enum BudgetSummaryGrouping {
+    STATUS,
+    MONTH,
+    CUSTOMER
+}
@@ -0,0 +1,15 @@
+package com.gesticar.backend.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public record BudgetSummaryRequest(
+        BudgetSummaryGrouping groupBy,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+) {
+    public BudgetSummaryGrouping grouping() {
+        return groupBy != null ? groupBy : BudgetSummaryGrouping.STATUS;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gesticar.backend.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record BudgetSummaryResponse(
+        String key,
+        String label,
+        long approvedCount,
+        BigDecimal approvedTotal,
+        BigDecimal approvedAverage,
+        long pendingCount,
+        BigDecimal pendingTotal,
+        BigDecimal pendingAverage
+) {
+    public BudgetSummaryResponse(String key, String label, long approvedCount, BigDecimal approvedTotal,
+                                 long pendingCount, BigDecimal pendingTotal) {
+        this(key, label, approvedCount, approvedTotal, average(approvedTotal, approvedCount),
+                pendingCount, pendingTotal, average(pendingTotal, pendingCount));
+    }
+
+    private static BigDecimal average(BigDecimal total, long count) {
+        return count == 0 ? null : total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
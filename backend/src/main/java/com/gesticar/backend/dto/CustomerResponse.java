@@ -0,0 +1,20 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.Customer;
+
+public record CustomerResponse(
+        Long id,
+        String rut,
+        String firstName,
+        String lastName,
+        String phone,
+        String email
+) {
+    public static CustomerResponse from(Customer customer) {
+        if (customer == null) {
+            return null;
+        }
+        return new CustomerResponse(customer.getId(), customer.getRut(), customer.getFirstName(),
+                customer.getLastName(), customer.getPhone(), customer.getEmail());
+    }
+}
@@ -0,0 +1,7 @@
+package com.gesticar.backend.dto;
+
+public record ImportRejection(
+        long row,
+        String reason
+) {
+}
@@ -0,0 +1,13 @@
+package com.gesticar.backend.dto;
+
+import java.util.List;
+
+public record ImportReportResponse(
+        long rows,
+        long accepted,
+        long customers,
+        long vehicles,
+        long rejectedCount,
+        List<ImportRejection> rejected
+) {
+}
@@ -0,0 +1,14 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record ShopFloorCountersResponse(
+        Map<WorkOrderStatus, Long> byStatus,
+        long total,
+        long openEstimatedHours,
+        LocalDateTime reconciledAt
+) {
+}
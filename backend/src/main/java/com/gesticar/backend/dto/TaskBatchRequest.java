@@ -0,0 +1,21 @@
+package com.gesticar.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBatchRequest(
+        @NotNull Long workOrderId,
+        @NotEmpty @Size(max = 500) List<@NotNull @Valid Item> tasks
+) {
+    public record Item(
+            @NotBlank String title,
+            String details,
+            Integer estimatedHours
+    ) {
+    }
+}
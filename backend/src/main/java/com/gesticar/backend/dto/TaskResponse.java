@@ -0,0 +1,16 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.Task;
+
+public record TaskResponse(
+        Long id,
+        String title,
+        String details,
+        Integer estimatedHours,
+        Long workOrderId
+) {
+    public static TaskResponse from(Task task) {
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDetails(), task.getEstimatedHours(),
+                task.getWorkOrder() != null ? task.getWorkOrder().getId() : null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.Vehicle;
+
+public record VehicleResponse(
+        Long id,
+        String licensePlate,
+        String brand,
+        String model,
+        Integer year,
+        Long customerId
+) {
+    public static VehicleResponse from(Vehicle vehicle) {
+        if (vehicle == null) {
+            return null;
+        }
+        return new VehicleResponse(vehicle.getId(), vehicle.getLicensePlate(), vehicle.getBrand(),
+                vehicle.getModel(), vehicle.getYear(),
+                vehicle.getCustomer() != null ? vehicle.getCustomer().getId() : null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.gesticar.backend.dto;
+
+public record WorkOrderCodeBlockResponse(
+        String prefix,
+        long first,
+        long last
+) {
+}
@@ -0,0 +1,28 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.domain.WorkOrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record WorkOrderDetailResponse(
+        Long id,
+        String code,
+        String description,
+        WorkOrderStatus status,
+        LocalDateTime createdAt,
+        CustomerResponse customer,
+        VehicleResponse vehicle,
+        List<TaskResponse> tasks,
+        List<BudgetResponse> budgets
+) {
+    public static WorkOrderDetailResponse from(WorkOrder workOrder) {
+        return new WorkOrderDetailResponse(workOrder.getId(), workOrder.getCode(), workOrder.getDescription(),
+                workOrder.getStatus(), workOrder.getCreatedAt(),
+                CustomerResponse.from(workOrder.getCustomer()),
+                VehicleResponse.from(workOrder.getVehicle()),
+                workOrder.getTasks().stream().map(TaskResponse::from).toList(),
+                workOrder.getBudgets().stream().map(BudgetResponse::from).toList());
+    }
+}
@@ -0,0 +1,36 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.domain.Vehicle;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.domain.WorkOrderStatus;
+
+import java.time.LocalDateTime;
+
+public record WorkOrderExportRow(
+        Long id,
+        String code,
+        String description,
+        WorkOrderStatus status,
+        LocalDateTime createdAt,
+        Long customerId,
+        String customerRut,
+        Long vehicleId,
+        String licensePlate
+) {
+    public static WorkOrderExportRow from(WorkOrder workOrder) {
+        Customer customer = workOrder.getCustomer();
+        Vehicle vehicle = workOrder.getVehicle();
+        return new WorkOrderExportRow(
+                workOrder.getId(),
+                workOrder.getCode(),
+                workOrder.getDescription(),
+                workOrder.getStatus(),
+                workOrder.getCreatedAt(),
+                customer != null ? customer.getId() : null,
+                customer != null ? customer.getRut() : null,
+                vehicle != null ? vehicle.getId() : null,
+                vehicle != null ? vehicle.getLicensePlate() : null
+        );
+    }
+}
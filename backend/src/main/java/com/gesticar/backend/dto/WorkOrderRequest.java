@@ -3,9 +3,10 @@ package com.gesticar.backend.dto;
 import com.gesticar.backend.domain.WorkOrderStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 public record WorkOrderRequest(
-        @NotBlank String code,
+        @Size(max = 50) String code,
         @NotBlank String description,
         WorkOrderStatus status,
         @NotNull Long customerId,
@@ -0,0 +1,35 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.domain.WorkOrderStatus;
+
+import java.time.LocalDateTime;
+
+public record WorkOrderResponse(
+        Long id,
+        String code,
+        String description,
+        WorkOrderStatus status,
+        LocalDateTime createdAt,
+        CustomerResponse customer,
+        VehicleResponse vehicle
+) {
+    public WorkOrderResponse(Long id, String code, String description, WorkOrderStatus status,
+                             LocalDateTime createdAt,
+                             Long customerId, String rut, String firstName, String lastName, String phone,
+                             String email,
+                             Long vehicleId, String licensePlate, String brand, String model, Integer year,
+                             Long vehicleCustomerId) {
+        this(id, code, description, status, createdAt,
+                customerId != null ? new CustomerResponse(customerId, rut, firstName, lastName, phone, email) : null,
+                vehicleId != null
+                        ? new VehicleResponse(vehicleId, licensePlate, brand, model, year, vehicleCustomerId)
+                        : null);
+    }
+
+    public static WorkOrderResponse from(WorkOrder workOrder) {
+        return new WorkOrderResponse(workOrder.getId(), workOrder.getCode(), workOrder.getDescription(),
+                workOrder.getStatus(), workOrder.getCreatedAt(),
+                CustomerResponse.from(workOrder.getCustomer()), VehicleResponse.from(workOrder.getVehicle()));
+    }
+}
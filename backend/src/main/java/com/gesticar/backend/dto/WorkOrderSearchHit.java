@@ -0,0 +1,15 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+
+import java.time.LocalDateTime;
+
+public record WorkOrderSearchHit(
+        Long id,
+        String code,
+        WorkOrderStatus status,
+        LocalDateTime createdAt,
+        float rank,
+        String snippet
+) {
+}
@@ -0,0 +1,17 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public record WorkOrderSearchRequest(
+        WorkOrderStatus status,
+        String plate,
+        String rut,
+        Long customerId,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        String code
+) {
+}
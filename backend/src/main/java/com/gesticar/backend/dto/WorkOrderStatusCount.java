@@ -0,0 +1,9 @@
+package com.gesticar.backend.dto;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+
+public record WorkOrderStatusCount(
+        WorkOrderStatus status,
+        long count
+) {
+}
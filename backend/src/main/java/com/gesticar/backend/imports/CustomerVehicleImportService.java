@@ -0,0 +1,122 @@
+package com.gesticar.backend.imports;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.gesticar.backend.dto.ImportRejection;
+import com.gesticar.backend.dto.ImportReportResponse;
+import com.gesticar.backend.exception.InvalidRequestException;
+import com.gesticar.backend.service.CustomerLookupService;
+import com.gesticar.backend.service.VehicleLookupService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CustomerVehicleImportService {
+
+    private static final List<String> CACHES = List.of(
+            CustomerLookupService.BY_RUT, CustomerLookupService.BY_ID,
+            VehicleLookupService.BY_PLATE, VehicleLookupService.BY_ID);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final boolean copySupported;
+    private final int batchSize;
+    private final int maxReportedRejections;
+
+    public CustomerVehicleImportService(JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        CacheManager cacheManager,
+                                        EntityManagerFactory entityManagerFactory,
+                                        ObjectMapper objectMapper,
+                                        DataSource dataSource,
+                                        @Value("${gesticar.import.batch-size:1000}") int batchSize,
+                                        @Value("${gesticar.import.max-reported-rejections:1000}") int maxReportedRejections)
+            throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.ndjsonReader = objectMapper.readerFor(ImportRow.class);
+        this.csvReader = new CsvMapper().readerFor(ImportRow.class).with(CsvSchema.emptySchema().withHeader());
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.copySupported = "PostgreSQL".equals(product);
+        this.batchSize = batchSize;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    public ImportReportResponse importRows(InputStream input, ImportFormat format) {
+        ImportReportResponse report = transactionTemplate.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<ImportReportResponse>) connection -> load(connection, input, format)));
+        evictCaches();
+        return report;
+    }
+
+    private ImportReportResponse load(Connection connection, InputStream input, ImportFormat format)
+            throws SQLException {
+        ImportSink sink = copySupported
+                ? new PostgresCopyImportSink(connection)
+                : new JdbcBatchImportSink(connection, batchSize);
+        List<ImportRejection> rejected = new ArrayList<>();
+        long rows = 0;
+        long rejectedCount = 0;
+        try (MappingIterator<ImportRow> iterator = reader(format).readValues(input)) {
+            while (iterator.hasNextValue()) {
+                ImportRow row = iterator.nextValue();
+                rows++;
+                try {
+                    sink.add(RowValidator.validate(rows, row));
+                } catch (RejectedRowException ex) {
+                    rejectedCount++;
+                    if (rejected.size() < maxReportedRejections) {
+                        rejected.add(new ImportRejection(rows, ex.getMessage()));
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            sink.abort();
+            throw new InvalidRequestException("Archivo de importación mal formado cerca de la fila " + (rows + 1));
+        }
+        ImportSink.ImportCounts counts = sink.finish();
+        return new ImportReportResponse(rows, rows - rejectedCount, counts.customers(), counts.vehicles(),
+                rejectedCount, rejected);
+    }
+
+    private ObjectReader reader(ImportFormat format) {
+        return format == ImportFormat.CSV ? csvReader : ndjsonReader;
+    }
+
+    private void evictCaches() {
+        for (String name : CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
@@ -0,0 +1,21 @@
+package com.gesticar.backend.imports;
+
+import com.gesticar.backend.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static ImportFormat of(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return NDJSON;
+        }
+        if (contentType != null && contentType.isCompatibleWith(MediaType.valueOf(TEXT_CSV_VALUE))) {
+            return CSV;
+        }
+        throw new InvalidRequestException("Formato de importación no soportado: " + contentType);
+    }
+}
@@ -0,0 +1,24 @@
+package com.gesticar.backend.imports;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ImportRow(
+        String rut,
+        String firstName,
+        String lastName,
+        String phone,
+        String email,
+        String licensePlate,
+        String brand,
+        String model,
+        String year
+) {
+    public boolean hasVehicle() {
+        return hasText(licensePlate) || hasText(brand) || hasText(model);
+    }
+
+    static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
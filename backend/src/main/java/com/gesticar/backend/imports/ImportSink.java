@@ -0,0 +1,15 @@
+package com.gesticar.backend.imports;
+
+import java.sql.SQLException;
+
+interface ImportSink {
+
+    void add(ValidRow row) throws SQLException;
+
+    ImportCounts finish() throws SQLException;
+
+    void abort() throws SQLException;
+
+    record ImportCounts(long customers, long vehicles) {
+    }
+}
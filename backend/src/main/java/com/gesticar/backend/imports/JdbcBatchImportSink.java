@@ -0,0 +1,113 @@
+package com.gesticar.backend.imports;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+class JdbcBatchImportSink implements ImportSink {
+
+    private static final String MERGE_CUSTOMER = """
+            merge into customers c
+            using (values (cast(? as varchar), cast(? as varchar), cast(? as varchar), cast(? as varchar),
+                cast(? as varchar))) s(rut, first_name, last_name, phone, email)
+            on c.rut = s.rut
+            when matched then update set first_name = s.first_name, last_name = s.last_name, phone = s.phone,
+                email = s.email, version = c.version + 1
+            when not matched then insert (id, version, rut, first_name, last_name, phone, email)
+                values (nextval('customers_id_seq'), 0, s.rut, s.first_name, s.last_name, s.phone, s.email)
+            """;
+
+    private static final String MERGE_VEHICLE = """
+            merge into vehicles v
+            using (select cast(? as varchar) as license_plate, cast(? as varchar) as brand,
+                cast(? as varchar) as model, cast(? as integer) as year, c.id as customer_id
+                from customers c where c.rut = ?) s
+            on v.license_plate = s.license_plate
+            when matched then update set brand = s.brand, model = s.model, year = s.year,
+                customer_id = s.customer_id, version = v.version + 1
+            when not matched then insert (id, version, license_plate, brand, model, year, customer_id)
+                values (nextval('vehicles_id_seq'), 0, s.license_plate, s.brand, s.model, s.year, s.customer_id)
+            """;
+
+    private final Connection connection;
+    private final int batchSize;
+    private final List<ValidRow> pending;
+    private long customers;
+    private long vehicles;
+
+    JdbcBatchImportSink(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.pending = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void add(ValidRow row) throws SQLException {
+        pending.add(row);
+        if (pending.size() == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public ImportCounts finish() throws SQLException {
+        flush();
+        return new ImportCounts(customers, vehicles);
+    }
+
+    @Override
+    public void abort() {
+        pending.clear();
+    }
+
+    private void flush() throws SQLException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_CUSTOMER)) {
+            for (ValidRow row : pending) {
+                statement.setString(1, row.rut());
+                statement.setString(2, row.firstName());
+                statement.setString(3, row.lastName());
+                statement.setString(4, row.phone());
+                statement.setString(5, row.email());
+                statement.addBatch();
+            }
+            customers += sum(statement.executeBatch());
+        }
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_VEHICLE)) {
+            boolean any = false;
+            for (ValidRow row : pending) {
+                if (row.licensePlate() == null) {
+                    continue;
+                }
+                statement.setString(1, row.licensePlate());
+                statement.setString(2, row.brand());
+                statement.setString(3, row.model());
+                if (row.year() != null) {
+                    statement.setInt(4, row.year());
+                } else {
+                    statement.setNull(4, Types.INTEGER);
+                }
+                statement.setString(5, row.rut());
+                statement.addBatch();
+                any = true;
+            }
+            if (any) {
+                vehicles += sum(statement.executeBatch());
+            }
+        }
+        pending.clear();
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,123 @@
+package com.gesticar.backend.imports;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+class PostgresCopyImportSink implements ImportSink {
+
+    private static final String CREATE_STAGING = """
+            create temporary table import_rows (
+                line bigint not null,
+                rut varchar(30) not null,
+                first_name varchar(100) not null,
+                last_name varchar(100) not null,
+                phone varchar(50),
+                email varchar(150),
+                license_plate varchar(20),
+                brand varchar(100),
+                model varchar(120),
+                year integer
+            ) on commit drop
+            """;
+
+    private static final String COPY = """
+            copy import_rows (line, rut, first_name, last_name, phone, email, license_plate, brand, model, year)
+            from stdin with (format csv)
+            """;
+
+    private static final String MERGE_CUSTOMERS = """
+            insert into customers (id, version, rut, first_name, last_name, phone, email)
+            select nextval('customers_id_seq'), 0, r.rut, r.first_name, r.last_name, r.phone, r.email
+            from (
+                select distinct on (rut) rut, first_name, last_name, phone, email
+                from import_rows
+                order by rut, line desc
+            ) r
+            on conflict (rut) do update set
+                first_name = excluded.first_name,
+                last_name = excluded.last_name,
+                phone = excluded.phone,
+                email = excluded.email,
+                version = customers.version + 1
+            """;
+
+    private static final String MERGE_VEHICLES = """
+            insert into vehicles (id, version, license_plate, brand, model, year, customer_id)
+            select nextval('vehicles_id_seq'), 0, r.license_plate, r.brand, r.model, r.year, c.id
+            from (
+                select distinct on (license_plate) license_plate, brand, model, year, rut
+                from import_rows
+                where license_plate is not null
+                order by license_plate, line desc
+            ) r
+            join customers c on c.rut = r.rut
+            on conflict (license_plate) do update set
+                brand = excluded.brand,
+                model = excluded.model,
+                year = excluded.year,
+                customer_id = excluded.customer_id,
+                version = vehicles.version + 1
+            """;
+
+    private final Connection connection;
+    private final CopyIn copyIn;
+    private final StringBuilder line = new StringBuilder(256);
+
+    PostgresCopyImportSink(Connection connection) throws SQLException {
+        this.connection = connection;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING);
+        }
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY);
+    }
+
+    @Override
+    public void add(ValidRow row) throws SQLException {
+        line.setLength(0);
+        line.append(row.line());
+        append(row.rut());
+        append(row.firstName());
+        append(row.lastName());
+        append(row.phone());
+        append(row.email());
+        append(row.licensePlate());
+        append(row.brand());
+        append(row.model());
+        line.append(',');
+        if (row.year() != null) {
+            line.append(row.year());
+        }
+        line.append('\n');
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ImportCounts finish() throws SQLException {
+        copyIn.endCopy();
+        try (Statement statement = connection.createStatement()) {
+            long customers = statement.executeUpdate(MERGE_CUSTOMERS);
+            long vehicles = statement.executeUpdate(MERGE_VEHICLES);
+            return new ImportCounts(customers, vehicles);
+        }
+    }
+
+    @Override
+    public void abort() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void append(String value) {
+        line.append(',');
+        if (value != null) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+}
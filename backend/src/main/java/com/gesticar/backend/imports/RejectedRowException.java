@@ -0,0 +1,7 @@
+package com.gesticar.backend.imports;
+
+class RejectedRowException extends RuntimeException {
+    RejectedRowException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,64 @@
+package com.gesticar.backend.imports;
+
+import com.gesticar.backend.domain.Plates;
+import com.gesticar.backend.domain.Ruts;
+
+import java.time.Year;
+
+final class RowValidator {
+
+    private RowValidator() {
+    }
+
+    static ValidRow validate(long line, ImportRow row) {
+        String rut = Ruts.normalize(row.rut()).orElseThrow(() -> new RejectedRowException("RUT inválido"));
+        String firstName = required(row.firstName(), "firstName", 100);
+        String lastName = required(row.lastName(), "lastName", 100);
+        String phone = optional(row.phone(), "phone", 50);
+        String email = optional(row.email(), "email", 150);
+        if (email != null && (email.indexOf('@') < 1 || email.indexOf('@') == email.length() - 1)) {
+            throw new RejectedRowException("Email inválido");
+        }
+        if (!row.hasVehicle()) {
+            return new ValidRow(line, rut, firstName, lastName, phone, email, null, null, null, null);
+        }
+        String plate = Plates.normalize(row.licensePlate())
+                .orElseThrow(() -> new RejectedRowException("Patente inválida"));
+        return new ValidRow(line, rut, firstName, lastName, phone, email, plate,
+                required(row.brand(), "brand", 100), required(row.model(), "model", 120), year(row.year()));
+    }
+
+    private static String required(String value, String field, int maxLength) {
+        String trimmed = optional(value, field, maxLength);
+        if (trimmed == null) {
+            throw new RejectedRowException("Falta " + field);
+        }
+        return trimmed;
+    }
+
+    private static String optional(String value, String field, int maxLength) {
+        if (!ImportRow.hasText(value)) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() > maxLength) {
+            throw new RejectedRowException(field + " supera " + maxLength + " caracteres");
+        }
+        return trimmed;
+    }
+
+    private static Integer year(String value) {
+        if (!ImportRow.hasText(value)) {
+            return null;
+        }
+        try {
+            int year = Integer.parseInt(value.trim());
+            if (year < 1900 || year > Year.now().getValue() + 1) {
+                throw new RejectedRowException("Año fuera de rango");
+            }
+            return year;
+        } catch (NumberFormatException ex) {
+            throw new RejectedRowException("Año inválido");
+        }
+    }
+}
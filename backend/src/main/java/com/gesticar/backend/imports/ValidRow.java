@@ -0,0 +1,15 @@
+package com.gesticar.backend.imports;
+
+record ValidRow(
+        long line,
+        String rut,
+        String firstName,
+        String lastName,
+        String phone,
+        String email,
+        String licensePlate,
+        String brand,
+        String model,
+        Integer year
+) {
+}
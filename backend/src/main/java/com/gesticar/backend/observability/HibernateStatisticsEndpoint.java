@@ -0,0 +1,41 @@
+package com.gesticar.backend.observability;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", statistics.isStatisticsEnabled());
+        body.put("startTime", statistics.getStart());
+        body.put("queryExecutions", statistics.getQueryExecutionCount());
+        body.put("prepareStatements", statistics.getPrepareStatementCount());
+        body.put("entityLoads", statistics.getEntityLoadCount());
+        body.put("entityFetches", statistics.getEntityFetchCount());
+        body.put("collectionFetches", statistics.getCollectionFetchCount());
+        body.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        body.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        body.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        body.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        body.put("slowestQueryMillis", statistics.getQueryExecutionMaxTime());
+        body.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        return body;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gesticar.backend.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.service.ShopFloorCounters;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ProfilingJacksonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public MeterBinder shopFloorCounterMetrics(ShopFloorCounters shopFloorCounters) {
+        return registry -> FunctionCounter.builder("gesticar.counters.reconcile.skipped", shopFloorCounters,
+                        ShopFloorCounters::skippedReconciliations)
+                .register(registry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.gesticar.backend.observability;
+
+import java.time.temporal.Temporal;
+import java.util.List;
+
+public enum ParameterCapture {
+    NONE,
+    TYPES,
+    REDACTED,
+    FULL;
+
+    List<Object> apply(List<Object> values) {
+        if (this == NONE) {
+            return List.of();
+        }
+        if (this == FULL) {
+            return values;
+        }
+        return values.stream().map(this::redact).toList();
+    }
+
+    private Object redact(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (this == TYPES) {
+            return value.getClass().getSimpleName();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Temporal
+                || value instanceof Enum<?>) {
+            return value;
+        }
+        if (value instanceof CharSequence text) {
+            return "***(" + text.length() + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,31 @@
+package com.gesticar.backend.observability;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class ProfilingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlTraceListener> sqlTraceListener;
+
+    public ProfilingDataSourcePostProcessor(ObjectProvider<SqlTraceListener> sqlTraceListener) {
+        this.sqlTraceListener = sqlTraceListener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new StatementProfilingListener());
+            sqlTraceListener.ifAvailable(builder::listener);
+            return builder.build();
+        }
+        return bean;
+    }
+}
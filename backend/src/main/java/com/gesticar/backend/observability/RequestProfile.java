@@ -0,0 +1,63 @@
+package com.gesticar.backend.observability;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Integer> statementShapes = new HashMap<>();
+    private int statements;
+    private long databaseNanos;
+    private long serializationNanos;
+
+    private RequestProfile() {
+    }
+
+    static RequestProfile start() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String shape, long elapsedNanos) {
+        statements++;
+        databaseNanos += elapsedNanos;
+        statementShapes.merge(shape, 1, Integer::sum);
+    }
+
+    void recordSerialization(long elapsedNanos) {
+        serializationNanos += elapsedNanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    Optional<Map.Entry<String, Integer>> mostRepeatedStatement() {
+        return statementShapes.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+
+    String serverTiming() {
+        long totalNanos = System.nanoTime() - startNanos;
+        long appNanos = Math.max(0, totalNanos - databaseNanos - serializationNanos);
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d sql\", serialization;dur=%.2f, app;dur=%.2f",
+                millis(databaseNanos), statements, millis(serializationNanos), millis(appNanos));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
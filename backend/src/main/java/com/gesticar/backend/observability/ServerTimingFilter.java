@@ -0,0 +1,60 @@
+package com.gesticar.backend.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final int statementThreshold;
+    private final int repeatedStatementThreshold;
+
+    public ServerTimingFilter(@Value("${gesticar.sql.warn-statements:20}") int statementThreshold,
+                              @Value("${gesticar.sql.warn-repeated-statements:5}") int repeatedStatementThreshold) {
+        this.statementThreshold = statementThreshold;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.start();
+        try {
+            chain.doFilter(request, response);
+            if (!request.isAsyncStarted() && !response.isCommitted()
+                    && !response.containsHeader(SERVER_TIMING_HEADER)) {
+                response.setHeader(SERVER_TIMING_HEADER, profile.serverTiming());
+            }
+            warnIfExcessive(request, profile);
+        } finally {
+            RequestProfile.end();
+        }
+    }
+
+    private void warnIfExcessive(HttpServletRequest request, RequestProfile profile) {
+        if (profile.statements() > statementThreshold) {
+            log.warn("{} {} ejecutó {} sentencias SQL (umbral {})", request.getMethod(), request.getRequestURI(),
+                    profile.statements(), statementThreshold);
+        }
+        profile.mostRepeatedStatement()
+                .filter(repeated -> repeated.getValue() >= repeatedStatementThreshold)
+                .ifPresent(repeated -> log.warn("Posible N+1 en {} {}: {} ejecuciones de [{}]",
+                        request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.gesticar.backend.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "gesticar.sql.trace.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTraceConfig {
+
+    private static final Logger traceLog = LoggerFactory.getLogger("gesticar.sql.trace");
+
+    @Bean
+    public SqlTraceWriter sqlTraceWriter(ObjectMapper objectMapper,
+                                         @Value("${gesticar.sql.trace.queue-capacity:10000}") int capacity) {
+        return new SqlTraceWriter(objectMapper, capacity, traceLog::info);
+    }
+
+    @Bean
+    public SqlTraceListener sqlTraceListener(SqlTraceWriter sqlTraceWriter,
+                                             @Value("${gesticar.sql.trace.sample-rate:0.01}") double sampleRate,
+                                             @Value("${gesticar.sql.trace.slow-threshold:200ms}") Duration slowThreshold,
+                                             @Value("${gesticar.sql.trace.parameters:REDACTED}") ParameterCapture parameters) {
+        return new SqlTraceListener(sqlTraceWriter, sampleRate, slowThreshold, parameters);
+    }
+
+    @Bean
+    public MeterBinder sqlTraceMetrics(SqlTraceWriter sqlTraceWriter) {
+        return registry -> {
+            Gauge.builder("gesticar.sql.trace.queued", sqlTraceWriter, SqlTraceWriter::queued).register(registry);
+            FunctionCounter.builder("gesticar.sql.trace.written", sqlTraceWriter, SqlTraceWriter::written)
+                    .register(registry);
+            FunctionCounter.builder("gesticar.sql.trace.dropped", sqlTraceWriter, SqlTraceWriter::dropped)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.gesticar.backend.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+public class SqlTraceListener implements QueryExecutionListener {
+
+    private final SqlTraceWriter writer;
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+    private final ParameterCapture parameterCapture;
+
+    public SqlTraceListener(SqlTraceWriter writer, double sampleRate, Duration slowThreshold,
+                            ParameterCapture parameterCapture) {
+        this.writer = writer;
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThreshold.toMillis();
+        this.parameterCapture = parameterCapture;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowThresholdMillis;
+        if (!slow && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        writer.offer(new SqlTraceRecord(Instant.now(), Thread.currentThread().getName(), elapsed, slow,
+                execInfo.isSuccess(), execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                sql(queryInfoList), parameterCapture.apply(firstParameterSet(queryInfoList))));
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return queryInfoList.get(0).getQuery();
+        }
+        return queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+
+    private static List<Object> firstParameterSet(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return List.of();
+        }
+        List<ParameterSetOperation> operations = new ArrayList<>(queryInfoList.get(0).getParametersList().get(0));
+        operations.sort(Comparator.comparingInt(
+                operation -> operation.getArgs()[0] instanceof Integer index ? index : 0));
+        List<Object> values = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            if (ParameterSetOperation.isRegisterOutParameterOperation(operation)) {
+                continue;
+            }
+            Object[] args = operation.getArgs();
+            values.add(ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2
+                    ? null
+                    : args[1]);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,18 @@
+package com.gesticar.backend.observability;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.Instant;
+import java.util.List;
+
+record SqlTraceRecord(
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Instant timestamp,
+        String thread,
+        long elapsedMillis,
+        boolean slow,
+        boolean success,
+        int batchSize,
+        String sql,
+        List<Object> parameters
+) {
+}
@@ -0,0 +1,85 @@
+package com.gesticar.backend.observability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+public class SqlTraceWriter implements DisposableBean {
+
+    private static final long IDLE_PARK_NANOS = Duration.ofMillis(5).toNanos();
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(2);
+
+    private final Queue<SqlTraceRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final int capacity;
+    private final ObjectWriter json;
+    private final Consumer<String> sink;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public SqlTraceWriter(ObjectMapper objectMapper, int capacity, Consumer<String> sink) {
+        this.capacity = capacity;
+        this.json = objectMapper.writerFor(SqlTraceRecord.class);
+        this.sink = sink;
+        this.writer = new Thread(this::drain, "sql-trace-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    boolean offer(SqlTraceRecord record) {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.offer(record);
+        return true;
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long written() {
+        return written.sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(SHUTDOWN_GRACE.toMillis());
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            SqlTraceRecord record = queue.poll();
+            if (record == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                sink.accept(json.writeValueAsString(record));
+                written.increment();
+            } catch (JsonProcessingException | RuntimeException ex) {
+                dropped.increment();
+            }
+        }
+    }
+}
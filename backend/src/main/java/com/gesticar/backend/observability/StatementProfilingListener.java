@@ -0,0 +1,38 @@
+package com.gesticar.backend.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+class StatementProfilingListener implements QueryExecutionListener {
+
+    private static final Pattern LITERALS = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestProfile.current() != null) {
+            startedAt.set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestProfile profile = RequestProfile.current();
+        Long start = startedAt.get();
+        if (profile == null || start == null) {
+            return;
+        }
+        startedAt.remove();
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        String shape = execInfo.getStatementType() == StatementType.STATEMENT
+                ? LITERALS.matcher(sql).replaceAll("?")
+                : sql;
+        profile.recordStatement(shape, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,22 @@
+package com.gesticar.backend.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.gesticar.backend.domain.OutboxEvent;
+import com.gesticar.backend.domain.OutboxEventType;
+
+import java.time.LocalDateTime;
+
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        OutboxEventType type,
+        LocalDateTime createdAt,
+        int attempts,
+        @JsonRawValue String payload
+) {
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getCreatedAt(), event.getAttempts(), event.getPayload());
+    }
+}
@@ -0,0 +1,120 @@
+package com.gesticar.backend.outbox;
+
+import com.gesticar.backend.domain.OutboxEvent;
+import com.gesticar.backend.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final OutboxRetention retention;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxSink> sinks,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${gesticar.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${gesticar.outbox.relay.lease:10m}") Duration lease,
+                       @Value("${gesticar.outbox.relay.retry-backoff:30s}") Duration retryBackoff,
+                       @Value("${gesticar.outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${gesticar.outbox.relay.retention:DELETE}") OutboxRetention retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    public int relayPending() {
+        int total = 0;
+        int relayed;
+        do {
+            relayed = relayBatch();
+            total += relayed;
+        } while (relayed == batchSize);
+        return total;
+    }
+
+    public int relayBatch() {
+        List<OutboxMessage> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<Long> published = new ArrayList<>(claimed.size());
+        List<Failure> failures = new ArrayList<>();
+        for (OutboxMessage message : claimed) {
+            try {
+                for (OutboxSink sink : sinks) {
+                    sink.publish(message);
+                }
+                published.add(message.id());
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo publicar el evento {} ({}), intento {}: {}", message.id(), message.type(),
+                        message.attempts(), ex.getMessage());
+                failures.add(new Failure(message, String.valueOf(ex.getMessage())));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> complete(published, failures));
+        return claimed.size();
+    }
+
+    private List<OutboxMessage> claim() {
+        List<OutboxMessage> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> batch = outboxEventRepository.claimBatch(now, batchSize);
+            batch.forEach(event -> event.lease(now.plus(lease)));
+            return batch.stream().map(OutboxMessage::from).toList();
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void complete(List<Long> published, List<Failure> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> removed = new ArrayList<>(published);
+        if (!published.isEmpty() && retention == OutboxRetention.ARCHIVE) {
+            outboxEventRepository.archive(published, now);
+        }
+        for (Failure failure : failures) {
+            OutboxMessage message = failure.message();
+            if (message.attempts() >= maxAttempts) {
+                log.error("Evento {} ({}) apartado en outbox_events_dead tras {} intentos", message.id(),
+                        message.type(), message.attempts());
+                outboxEventRepository.deadLetter(message.id(), failure.truncatedError(), now);
+                removed.add(message.id());
+            } else {
+                outboxEventRepository.reschedule(message.id(),
+                        now.plus(retryBackoff.multipliedBy(message.attempts())));
+            }
+        }
+        if (!removed.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(removed);
+        }
+    }
+
+    private record Failure(OutboxMessage message, String error) {
+        String truncatedError() {
+            return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.gesticar.backend.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "gesticar.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    public OutboxRelayScheduler(OutboxRelay outboxRelay) {
+        this.outboxRelay = outboxRelay;
+    }
+
+    @Scheduled(fixedDelayString = "${gesticar.outbox.relay.poll-interval:1s}")
+    public void relay() {
+        outboxRelay.relayPending();
+    }
+}
@@ -0,0 +1,6 @@
+package com.gesticar.backend.outbox;
+
+public enum OutboxRetention {
+    DELETE,
+    ARCHIVE
+}
@@ -0,0 +1,6 @@
+package com.gesticar.backend.outbox;
+
+public interface OutboxSink {
+
+    void publish(OutboxMessage message);
+}
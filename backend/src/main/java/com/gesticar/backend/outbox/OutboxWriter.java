@@ -0,0 +1,49 @@
+package com.gesticar.backend.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.domain.OutboxEvent;
+import com.gesticar.backend.domain.OutboxEventType;
+import com.gesticar.backend.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Function;
+
+@Component
+public class OutboxWriter {
+
+    public static final String WORK_ORDER = "WorkOrder";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long workOrderId, OutboxEventType type, Object payload) {
+        outboxEventRepository.save(event(workOrderId, type, payload, LocalDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void recordAll(Collection<T> payloads, Function<T, Long> workOrderIdOf, OutboxEventType type) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.saveAll(payloads.stream()
+                .map(payload -> event(workOrderIdOf.apply(payload), type, payload, now))
+                .toList());
+    }
+
+    private OutboxEvent event(Long workOrderId, OutboxEventType type, Object payload, LocalDateTime now) {
+        try {
+            return new OutboxEvent(WORK_ORDER, workOrderId, type, objectMapper.writeValueAsString(payload), now);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar el evento " + type, ex);
+        }
+    }
+}
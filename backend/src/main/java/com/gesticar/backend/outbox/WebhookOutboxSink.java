@@ -0,0 +1,38 @@
+package com.gesticar.backend.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(name = "gesticar.outbox.webhook.url")
+public class WebhookOutboxSink implements OutboxSink {
+
+    public static final String EVENT_ID_HEADER = "X-Outbox-Event-Id";
+
+    private final RestClient restClient;
+
+    public WebhookOutboxSink(RestClient.Builder builder,
+                             @Value("${gesticar.outbox.webhook.url}") String url,
+                             @Value("${gesticar.outbox.webhook.timeout:5s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = builder.baseUrl(url).requestFactory(requestFactory).build();
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(EVENT_ID_HEADER, String.valueOf(message.id()))
+                .body(message)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
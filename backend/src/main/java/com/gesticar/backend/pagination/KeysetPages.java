@@ -0,0 +1,41 @@
+package com.gesticar.backend.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class KeysetPages {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private KeysetPages() {
+    }
+
+    public static Pageable request(Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return Pageable.ofSize(size);
+    }
+
+    public static <T> ResponseEntity<List<T>> respond(Slice<T> slice, Function<T, ? extends PageToken> cursorOf) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return ResponseEntity.ok(content);
+        }
+        String next = cursorOf.apply(content.get(content.size() - 1)).encode();
+        String nextUri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", next)
+                .replaceQueryParam("limit", slice.getSize())
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, next)
+                .header(HttpHeaders.LINK, "<" + nextUri + ">; rel=\"next\"")
+                .body(content);
+    }
+}
@@ -0,0 +1,6 @@
+package com.gesticar.backend.pagination;
+
+public interface PageToken {
+
+    String encode();
+}
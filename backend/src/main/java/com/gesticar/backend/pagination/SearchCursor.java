@@ -0,0 +1,34 @@
+package com.gesticar.backend.pagination;
+
+import com.gesticar.backend.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record SearchCursor(float rank, long id) implements PageToken {
+
+    private static final String SEPARATOR = "|";
+
+    public static SearchCursor of(float rank, long id) {
+        return new SearchCursor(rank, id);
+    }
+
+    @Override
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Cursor inválido");
+            }
+            return of(Float.parseFloat(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Cursor inválido");
+        }
+    }
+}
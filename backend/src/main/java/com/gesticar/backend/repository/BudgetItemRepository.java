@@ -0,0 +1,14 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.domain.BudgetItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BudgetItemRepository extends JpaRepository<BudgetItem, Long> {
+
+    @Query("select i from BudgetItem i where i.budget.id = :budgetId order by i.id")
+    List<BudgetItem> findByBudgetId(@Param("budgetId") Long budgetId);
+}
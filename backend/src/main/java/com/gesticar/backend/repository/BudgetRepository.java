@@ -1,10 +1,24 @@
 package com.gesticar.backend.repository;
 
 import com.gesticar.backend.domain.Budget;
+import com.gesticar.backend.dto.BudgetResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+public interface BudgetRepository extends JpaRepository<Budget, Long>, BudgetSummaryRepository {
 
-public interface BudgetRepository extends JpaRepository<Budget, Long> {
-    List<Budget> findByWorkOrderId(Long workOrderId);
+    String SELECT_RESPONSE = """
+            select new com.gesticar.backend.dto.BudgetResponse(b.id, b.amount, b.approved, b.notes, b.workOrder.id)
+            from Budget b
+            """;
+
+    @Query(SELECT_RESPONSE + "where b.workOrder.id = :workOrderId and b.id > :id order by b.id")
+    Slice<BudgetResponse> findResponsePageByWorkOrderIdAfter(@Param("workOrderId") Long workOrderId,
+                                                             @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where b.id > :id order by b.id")
+    Slice<BudgetResponse> findResponsePageAfter(@Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.dto.BudgetSummaryRequest;
+import com.gesticar.backend.dto.BudgetSummaryResponse;
+
+import java.util.List;
+
+public interface BudgetSummaryRepository {
+    List<BudgetSummaryResponse> summarize(BudgetSummaryRequest request);
+}
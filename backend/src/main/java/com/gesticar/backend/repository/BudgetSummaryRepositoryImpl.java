@@ -0,0 +1,105 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.domain.Budget;
+import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.BudgetSummaryRequest;
+import com.gesticar.backend.dto.BudgetSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+class BudgetSummaryRepositoryImpl implements BudgetSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    BudgetSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<BudgetSummaryResponse> summarize(BudgetSummaryRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Budget> budget = query.from(Budget.class);
+        Join<Budget, WorkOrder> workOrder = budget.join("workOrder");
+        Path<LocalDateTime> createdAt = workOrder.get("createdAt");
+        Path<BigDecimal> amount = budget.get("amount");
+        Predicate approved = cb.isTrue(budget.get("approved"));
+
+        List<Expression<?>> keys = new ArrayList<>();
+        Function<Tuple, GroupKey> keyOf;
+        switch (request.grouping()) {
+            case STATUS -> {
+                keys.add(workOrder.get("status"));
+                keyOf = row -> new GroupKey(String.valueOf(row.get(0)), String.valueOf(row.get(0)));
+            }
+            case MONTH -> {
+                keys.add(cb.function("year", Integer.class, createdAt));
+                keys.add(cb.function("month", Integer.class, createdAt));
+                keyOf = row -> month(row.get(0, Integer.class), row.get(1, Integer.class));
+            }
+            case CUSTOMER -> {
+                Join<WorkOrder, Customer> customer = workOrder.join("customer", JoinType.LEFT);
+                keys.add(customer.get("id"));
+                keys.add(customer.get("firstName"));
+                keys.add(customer.get("lastName"));
+                keyOf = row -> row.get(0) == null
+                        ? new GroupKey("sin-cliente", "Sin cliente")
+                        : new GroupKey(String.valueOf(row.get(0)), row.get(1) + " " + row.get(2));
+            }
+            default -> throw new IllegalStateException("Agrupación no soportada: " + request.grouping());
+        }
+
+        List<Selection<?>> selections = new ArrayList<>(keys);
+        selections.add(cb.sum(cb.<Long>selectCase().when(approved, 1L).otherwise(0L)));
+        selections.add(cb.sum(cb.<BigDecimal>selectCase().when(approved, amount).otherwise(BigDecimal.ZERO)));
+        selections.add(cb.sum(cb.<Long>selectCase().when(approved, 0L).otherwise(1L)));
+        selections.add(cb.sum(cb.<BigDecimal>selectCase().when(approved, BigDecimal.ZERO).otherwise(amount)));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (request.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, request.from().atStartOfDay()));
+        }
+        if (request.to() != null) {
+            predicates.add(cb.lessThan(createdAt, request.to().plusDays(1).atStartOfDay()));
+        }
+
+        query.multiselect(selections)
+                .where(predicates.toArray(Predicate[]::new))
+                .groupBy(keys)
+                .orderBy(keys.stream().map(cb::asc).toList());
+
+        int first = keys.size();
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> {
+                    GroupKey key = keyOf.apply(row);
+                    return new BudgetSummaryResponse(key.key(), key.label(),
+                            row.get(first, Long.class), row.get(first + 1, BigDecimal.class),
+                            row.get(first + 2, Long.class), row.get(first + 3, BigDecimal.class));
+                })
+                .toList();
+    }
+
+    private static GroupKey month(Integer year, Integer month) {
+        String key = "%04d-%02d".formatted(year, month);
+        return new GroupKey(key, key);
+    }
+
+    private record GroupKey(String key, String label) {
+    }
+}
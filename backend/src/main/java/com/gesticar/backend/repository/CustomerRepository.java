@@ -1,10 +1,31 @@
 package com.gesticar.backend.repository;
 
 import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.dto.CustomerResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
-    Optional<Customer> findByRut(String rut);
+
+    String SELECT_RESPONSE = """
+            select new com.gesticar.backend.dto.CustomerResponse(c.id, c.rut, c.firstName, c.lastName, c.phone, c.email)
+            from Customer c
+            """;
+
+    @Query(SELECT_RESPONSE + "where c.id = :id")
+    Optional<CustomerResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + "where c.rut = :rut")
+    Optional<CustomerResponse> findResponseByRut(@Param("rut") String rut);
+
+    @Query(SELECT_RESPONSE + "where c.id > :id order by c.id")
+    Slice<CustomerResponse> findResponsePageAfter(@Param("id") Long id, Pageable pageable);
+
+    @Query("select c.version from Customer c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,48 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = """
+            select * from outbox_events
+            where available_at <= :now
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            insert into outbox_events_archive
+                (id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts, published_at)
+            select id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts, :publishedAt
+            from outbox_events
+            where id in (:ids)
+            """, nativeQuery = true)
+    int archive(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.availableAt = :availableAt where e.id = :id")
+    int reschedule(@Param("id") Long id, @Param("availableAt") LocalDateTime availableAt);
+
+    @Modifying
+    @Query(value = """
+            insert into outbox_events_dead
+                (id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts, last_error, failed_at)
+            select id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts, :lastError, :failedAt
+            from outbox_events
+            where id = :id
+            """, nativeQuery = true)
+    int deadLetter(@Param("id") Long id, @Param("lastError") String lastError,
+                   @Param("failedAt") LocalDateTime failedAt);
+}
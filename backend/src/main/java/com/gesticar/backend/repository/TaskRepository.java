@@ -1,10 +1,31 @@
 package com.gesticar.backend.repository;
 
 import com.gesticar.backend.domain.Task;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.TaskResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByWorkOrderId(Long workOrderId);
+
+    String SELECT_RESPONSE = """
+            select new com.gesticar.backend.dto.TaskResponse(t.id, t.title, t.details, t.estimatedHours, t.workOrder.id)
+            from Task t
+            """;
+
+    @Query(SELECT_RESPONSE + "where t.workOrder.id = :workOrderId and t.id > :id order by t.id")
+    Slice<TaskResponse> findResponsePageByWorkOrderIdAfter(@Param("workOrderId") Long workOrderId,
+                                                           @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where t.id > :id order by t.id")
+    Slice<TaskResponse> findResponsePageAfter(@Param("id") Long id, Pageable pageable);
+
+    @Query("select coalesce(sum(t.estimatedHours), 0) from Task t where t.workOrder.id = :workOrderId")
+    long sumEstimatedHoursByWorkOrderId(@Param("workOrderId") Long workOrderId);
+
+    @Query("select coalesce(sum(t.estimatedHours), 0) from Task t where t.workOrder.status <> :closed")
+    long sumEstimatedHoursByWorkOrderStatusNot(@Param("closed") WorkOrderStatus closed);
 }
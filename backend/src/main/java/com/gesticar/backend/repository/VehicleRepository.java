@@ -1,10 +1,36 @@
 package com.gesticar.backend.repository;
 
 import com.gesticar.backend.domain.Vehicle;
+import com.gesticar.backend.dto.VehicleResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.util.Optional;
 
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
-    List<Vehicle> findByCustomerId(Long customerId);
+
+    String SELECT_RESPONSE = """
+            select new com.gesticar.backend.dto.VehicleResponse(
+                v.id, v.licensePlate, v.brand, v.model, v.year, v.customer.id)
+            from Vehicle v
+            """;
+
+    @Query(SELECT_RESPONSE + "where v.id = :id")
+    Optional<VehicleResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + "where v.licensePlate = :licensePlate")
+    Optional<VehicleResponse> findResponseByLicensePlate(@Param("licensePlate") String licensePlate);
+
+    @Query(SELECT_RESPONSE + "where v.customer.id = :customerId and v.id > :id order by v.id")
+    Slice<VehicleResponse> findResponsePageByCustomerIdAfter(@Param("customerId") Long customerId,
+                                                             @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where v.id > :id order by v.id")
+    Slice<VehicleResponse> findResponsePageAfter(@Param("id") Long id, Pageable pageable);
+
+    @Query("select v.version from Vehicle v where v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
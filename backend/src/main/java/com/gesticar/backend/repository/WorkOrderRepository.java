@@ -1,10 +1,103 @@
 package com.gesticar.backend.repository;
 
 import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.WorkOrderResponse;
+import com.gesticar.backend.dto.WorkOrderStatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
-    List<WorkOrder> findByCustomerId(Long customerId);
+public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long>, WorkOrderSearchRepository,
+        WorkOrderTransitionRepository {
+
+    String SELECT_RESPONSE = """
+            select new com.gesticar.backend.dto.WorkOrderResponse(
+                w.id, w.code, w.description, w.status, w.createdAt,
+                c.id, c.rut, c.firstName, c.lastName, c.phone, c.email,
+                v.id, v.licensePlate, v.brand, v.model, v.year, v.customer.id)
+            from WorkOrder w
+            left join w.customer c
+            left join w.vehicle v
+            """;
+
+    @Query(SELECT_RESPONSE + "where w.id = :id")
+    Optional<WorkOrderResponse> findResponseById(@Param("id") Long id);
+
+    @Query("""
+            select concat(str(w.version), '-', str(coalesce(c.version, 0)), '-', str(coalesce(v.version, 0)))
+            from WorkOrder w
+            left join w.customer c
+            left join w.vehicle v
+            where w.id = :id
+            """)
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    @Query("select w.status from WorkOrder w where w.id = :id")
+    Optional<WorkOrderStatus> findStatusById(@Param("id") Long id);
+
+    @Query("""
+            select new com.gesticar.backend.dto.WorkOrderStatusCount(w.status, count(w))
+            from WorkOrder w
+            group by w.status
+            """)
+    List<WorkOrderStatusCount> countByStatus();
+
+    @Query(SELECT_RESPONSE + "where w.customer.id = :customerId order by w.createdAt desc, w.id desc")
+    Slice<WorkOrderResponse> findResponsePageByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + """
+            where w.customer.id = :customerId
+              and (w.createdAt < :createdAt or (w.createdAt = :createdAt and w.id < :id))
+            order by w.createdAt desc, w.id desc
+            """)
+    Slice<WorkOrderResponse> findResponsePageByCustomerIdBefore(@Param("customerId") Long customerId,
+                                                                @Param("createdAt") LocalDateTime createdAt,
+                                                                @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "order by w.createdAt desc, w.id desc")
+    Slice<WorkOrderResponse> findResponsePage(Pageable pageable);
+
+    @Query(SELECT_RESPONSE + """
+            where w.createdAt < :createdAt or (w.createdAt = :createdAt and w.id < :id)
+            order by w.createdAt desc, w.id desc
+            """)
+    Slice<WorkOrderResponse> findResponsePageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+            select w from WorkOrder w
+            left join fetch w.customer
+            left join fetch w.vehicle v
+            left join fetch v.customer
+            left join fetch w.tasks
+            where w.id = :id
+            """)
+    Optional<WorkOrder> findWithTasksById(@Param("id") Long id);
+
+    @Query("select w from WorkOrder w left join fetch w.budgets where w.id = :id")
+    Optional<WorkOrder> findWithBudgetsById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select w from WorkOrder w
+            left join fetch w.customer
+            left join fetch w.vehicle v
+            left join fetch v.customer
+            order by w.id
+            """)
+    Stream<WorkOrder> streamAllForExport();
 }
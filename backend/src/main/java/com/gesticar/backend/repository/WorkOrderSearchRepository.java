@@ -0,0 +1,11 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.dto.WorkOrderResponse;
+import com.gesticar.backend.dto.WorkOrderSearchRequest;
+import com.gesticar.backend.pagination.Cursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface WorkOrderSearchRepository {
+    Slice<WorkOrderResponse> search(WorkOrderSearchRequest criteria, Cursor after, Pageable pageable);
+}
@@ -0,0 +1,98 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.domain.Plates;
+import com.gesticar.backend.domain.Ruts;
+import com.gesticar.backend.domain.Vehicle;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.WorkOrderResponse;
+import com.gesticar.backend.dto.WorkOrderSearchRequest;
+import com.gesticar.backend.pagination.Cursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class WorkOrderSearchRepositoryImpl implements WorkOrderSearchRepository {
+
+    private final EntityManager entityManager;
+
+    WorkOrderSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<WorkOrderResponse> search(WorkOrderSearchRequest criteria, Cursor after, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<WorkOrderResponse> query = cb.createQuery(WorkOrderResponse.class);
+        Root<WorkOrder> workOrder = query.from(WorkOrder.class);
+        Join<WorkOrder, Customer> customer = workOrder.join("customer", JoinType.LEFT);
+        Join<WorkOrder, Vehicle> vehicle = workOrder.join("vehicle", JoinType.LEFT);
+        Path<LocalDateTime> createdAt = workOrder.get("createdAt");
+        Path<Long> id = workOrder.get("id");
+
+        query.select(cb.construct(WorkOrderResponse.class,
+                id, workOrder.get("code"), workOrder.get("description"), workOrder.get("status"), createdAt,
+                customer.get("id"), customer.get("rut"), customer.get("firstName"), customer.get("lastName"),
+                customer.get("phone"), customer.get("email"),
+                vehicle.get("id"), vehicle.get("licensePlate"), vehicle.get("brand"), vehicle.get("model"),
+                vehicle.get("year"), vehicle.get("customer").get("id")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(workOrder.get("status"), criteria.status()));
+        }
+        if (criteria.customerId() != null) {
+            predicates.add(cb.equal(workOrder.get("customer").get("id"), criteria.customerId()));
+        }
+        if (hasText(criteria.rut())) {
+            predicates.add(cb.equal(customer.get("rut"), Ruts.canonical(criteria.rut())));
+        }
+        if (hasText(criteria.plate())) {
+            predicates.add(cb.equal(vehicle.get("licensePlate"), Plates.canonical(criteria.plate())));
+        }
+        if (criteria.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, criteria.from().atStartOfDay()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(cb.lessThan(createdAt, criteria.to().plusDays(1).atStartOfDay()));
+        }
+        if (hasText(criteria.code())) {
+            predicates.add(cb.like(workOrder.get("code"), escapeLike(criteria.code().trim()) + "%", '\\'));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id()))));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        List<WorkOrderResponse> rows = entityManager.createQuery(query)
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<WorkOrderResponse> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,10 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.WorkOrderResponse;
+
+import java.util.Optional;
+
+public interface WorkOrderTransitionRepository {
+    Optional<WorkOrderResponse> transition(Long id, WorkOrderStatus target);
+}
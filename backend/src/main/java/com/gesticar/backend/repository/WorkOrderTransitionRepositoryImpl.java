@@ -0,0 +1,79 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.CustomerResponse;
+import com.gesticar.backend.dto.VehicleResponse;
+import com.gesticar.backend.dto.WorkOrderResponse;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+class WorkOrderTransitionRepositoryImpl implements WorkOrderTransitionRepository {
+
+    private static final String UPDATE = """
+            update work_orders set status = :status, version = version + 1
+            where id = :id and status in (:predecessors)
+            """;
+
+    private static final String SELECT_RESPONSE = """
+            select w.id, w.code, w.description, w.status, w.created_at,
+                c.id as c_id, c.rut, c.first_name, c.last_name, c.phone, c.email,
+                v.id as v_id, v.license_plate, v.brand, v.model, v.year, v.customer_id as v_customer_id
+            from %s
+            left join customers c on c.id = w.customer_id
+            left join vehicles v on v.id = w.vehicle_id
+            """;
+
+    private static final String POSTGRESQL_TRANSITION = "with w as (" + UPDATE
+            + " returning id, code, description, status, created_at, customer_id, vehicle_id) "
+            + SELECT_RESPONSE.formatted("w");
+
+    private static final String H2_TRANSITION = SELECT_RESPONSE.formatted("final table (" + UPDATE + ") w");
+
+    private static final RowMapper<WorkOrderResponse> ROW_MAPPER = WorkOrderTransitionRepositoryImpl::mapRow;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String transitionSql;
+
+    WorkOrderTransitionRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource)
+            throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.transitionSql = "H2".equals(product) ? H2_TRANSITION : POSTGRESQL_TRANSITION;
+    }
+
+    @Override
+    public Optional<WorkOrderResponse> transition(Long id, WorkOrderStatus target) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("status", target.name())
+                .addValue("predecessors", target.predecessors().stream().map(Enum::name).toList());
+        return jdbcTemplate.query(transitionSql, parameters, ROW_MAPPER).stream().findFirst();
+    }
+
+    private static WorkOrderResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Long customerId = rs.getObject("c_id", Long.class);
+        Long vehicleId = rs.getObject("v_id", Long.class);
+        return new WorkOrderResponse(
+                rs.getLong("id"), rs.getString("code"), rs.getString("description"),
+                WorkOrderStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                customerId != null
+                        ? new CustomerResponse(customerId, rs.getString("rut"), rs.getString("first_name"),
+                        rs.getString("last_name"), rs.getString("phone"), rs.getString("email"))
+                        : null,
+                vehicleId != null
+                        ? new VehicleResponse(vehicleId, rs.getString("license_plate"), rs.getString("brand"),
+                        rs.getString("model"), rs.getObject("year", Integer.class),
+                        rs.getObject("v_customer_id", Long.class))
+                        : null);
+    }
+}
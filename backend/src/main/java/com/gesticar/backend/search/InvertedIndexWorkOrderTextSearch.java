@@ -0,0 +1,268 @@
+package com.gesticar.backend.search;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.TaskResponse;
+import com.gesticar.backend.dto.WorkOrderSearchHit;
+import com.gesticar.backend.pagination.SearchCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+
+class InvertedIndexWorkOrderTextSearch implements WorkOrderTextSearch {
+
+    private static final Logger log = LoggerFactory.getLogger(InvertedIndexWorkOrderTextSearch.class);
+
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float TASK_WEIGHT = 0.4f;
+    private static final int SNIPPET_WORDS = 25;
+    private static final int SNIPPET_LEAD = 5;
+
+    private static final Comparator<Scored> RANKING = Comparator.comparing(Scored::rank).reversed()
+            .thenComparing(Comparator.comparing(Scored::id).reversed());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    InvertedIndexWorkOrderTextSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (DataAccessException ex) {
+            log.warn("No se pudo construir el índice de búsqueda de OTs: {}", ex.getMessage());
+        }
+    }
+
+    void rebuild() {
+        Map<Long, Document> loaded = new HashMap<>();
+        jdbcTemplate.query("select id, description from work_orders", rs -> {
+            loaded.put(rs.getLong("id"), new Document(rs.getString("description")));
+        });
+        jdbcTemplate.query("select work_order_id, title, details from tasks order by id", rs -> {
+            Document document = loaded.get(rs.getLong("work_order_id"));
+            if (document != null) {
+                document.tasks.add(taskText(rs.getString("title"), rs.getString("details")));
+            }
+        });
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            loaded.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void workOrderCreated(Long workOrderId, String description) {
+        afterCommit(() -> update(workOrderId, document -> document.description = description));
+    }
+
+    @Override
+    public void tasksAdded(Long workOrderId, Collection<TaskResponse> tasks) {
+        List<String> texts = tasks.stream().map(task -> taskText(task.title(), task.details())).toList();
+        afterCommit(() -> update(workOrderId, document -> document.tasks.addAll(texts)));
+    }
+
+    @Override
+    public Slice<WorkOrderSearchHit> search(String query, SearchCursor after, Pageable pageable) {
+        Set<String> terms = new LinkedHashSet<>(SearchTerms.of(query));
+        if (terms.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        List<Scored> page;
+        lock.readLock().lock();
+        try {
+            page = rank(terms).stream()
+                    .filter(scored -> after == null || scored.rank() < after.rank()
+                            || (scored.rank() == after.rank() && scored.id() < after.id()))
+                    .sorted(RANKING)
+                    .limit(pageable.getPageSize() + 1L)
+                    .map(scored -> scored.withSnippet(snippet(documents.get(scored.id()), terms)))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        boolean hasNext = page.size() > pageable.getPageSize();
+        List<Scored> content = hasNext ? page.subList(0, pageable.getPageSize()) : page;
+        return new SliceImpl<>(hydrate(content), pageable, hasNext);
+    }
+
+    private List<Scored> rank(Set<String> terms) {
+        List<Map<Long, Float>> matches = new ArrayList<>();
+        for (String term : terms) {
+            Map<Long, Float> documentWeights = postings.get(term);
+            if (documentWeights == null) {
+                return List.of();
+            }
+            matches.add(documentWeights);
+        }
+        matches.sort(Comparator.comparingInt(Map::size));
+        List<Scored> ranked = new ArrayList<>();
+        candidates:
+        for (Long id : matches.get(0).keySet()) {
+            float rank = 0;
+            for (Map<Long, Float> documentWeights : matches) {
+                Float weight = documentWeights.get(id);
+                if (weight == null) {
+                    continue candidates;
+                }
+                rank += weight;
+            }
+            ranked.add(new Scored(id, rank, null));
+        }
+        return ranked;
+    }
+
+    private List<WorkOrderSearchHit> hydrate(List<Scored> page) {
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, WorkOrderSearchHit> rows = new HashMap<>();
+        Map<Long, Scored> byId = new HashMap<>();
+        page.forEach(scored -> byId.put(scored.id(), scored));
+        jdbcTemplate.query("select id, code, status, created_at from work_orders where id in (:ids)",
+                new MapSqlParameterSource("ids", byId.keySet()), rs -> {
+                    Scored scored = byId.get(rs.getLong("id"));
+                    rows.put(scored.id(), new WorkOrderSearchHit(scored.id(), rs.getString("code"),
+                            WorkOrderStatus.valueOf(rs.getString("status")),
+                            rs.getTimestamp("created_at").toLocalDateTime(), scored.rank(), scored.snippet()));
+                });
+        return page.stream().map(scored -> rows.get(scored.id())).filter(Objects::nonNull).toList();
+    }
+
+    private void update(Long workOrderId, Consumer<Document> change) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.getOrDefault(workOrderId, new Document(null));
+            change.accept(document);
+            index(workOrderId, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Long workOrderId, Document document) {
+        for (String term : document.weights.keySet()) {
+            Map<Long, Float> documentWeights = postings.get(term);
+            if (documentWeights != null) {
+                documentWeights.remove(workOrderId);
+                if (documentWeights.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        Map<String, Float> weights = new HashMap<>();
+        SearchTerms.of(document.description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Float::sum));
+        for (String task : document.tasks) {
+            SearchTerms.of(task).forEach(term -> weights.merge(term, TASK_WEIGHT, Float::sum));
+        }
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                .put(workOrderId, weight));
+        document.weights = weights;
+        documents.put(workOrderId, document);
+    }
+
+    private static String snippet(Document document, Set<String> terms) {
+        String text = document.text();
+        List<int[]> words = new ArrayList<>();
+        Set<Integer> highlighted = new HashSet<>();
+        Matcher matcher = SearchTerms.WORD.matcher(text);
+        while (matcher.find()) {
+            String term = SearchTerms.term(matcher.group());
+            if (term != null && terms.contains(term)) {
+                highlighted.add(words.size());
+            }
+            words.add(new int[]{matcher.start(), matcher.end()});
+        }
+        if (words.isEmpty()) {
+            return HtmlUtils.htmlEscape(text);
+        }
+        int first = highlighted.stream().min(Integer::compare).orElse(0);
+        int from = Math.max(0, first - SNIPPET_LEAD);
+        int to = Math.min(words.size(), from + SNIPPET_WORDS);
+        StringBuilder snippet = new StringBuilder(from > 0 ? "… " : "");
+        int cursor = words.get(from)[0];
+        for (int i = from; i < to; i++) {
+            int[] word = words.get(i);
+            snippet.append(HtmlUtils.htmlEscape(text.substring(cursor, word[0])));
+            String escaped = HtmlUtils.htmlEscape(text.substring(word[0], word[1]));
+            snippet.append(highlighted.contains(i) ? "<mark>" + escaped + "</mark>" : escaped);
+            cursor = word[1];
+        }
+        return to < words.size() ? snippet.append(" …").toString() : snippet.toString();
+    }
+
+    private static String taskText(String title, String details) {
+        return details == null || details.isBlank() ? title : title + " " + details;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private record Scored(Long id, float rank, String snippet) {
+        Scored withSnippet(String snippet) {
+            return new Scored(id, rank, snippet);
+        }
+    }
+
+    private static final class Document {
+        private String description;
+        private final List<String> tasks = new ArrayList<>();
+        private Map<String, Float> weights = Map.of();
+
+        private Document(String description) {
+            this.description = description;
+        }
+
+        private String text() {
+            List<String> parts = new ArrayList<>();
+            if (description != null) {
+                parts.add(description);
+            }
+            parts.addAll(tasks);
+            return String.join(" ", parts);
+        }
+    }
+}
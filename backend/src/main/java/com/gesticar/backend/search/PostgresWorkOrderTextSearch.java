@@ -0,0 +1,80 @@
+package com.gesticar.backend.search;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.WorkOrderSearchHit;
+import com.gesticar.backend.pagination.SearchCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+class PostgresWorkOrderTextSearch implements WorkOrderTextSearch {
+
+    private static final String SEARCH = """
+            with q as (select websearch_to_tsquery('spanish', :query) as query),
+            ranked as (
+                select w.id, w.code, w.status, w.created_at, w.description,
+                    ts_rank_cd(w.search_vector, q.query) as rank
+                from work_orders w, q
+                where w.search_vector @@ q.query
+            ),
+            page as (
+                select * from ranked
+                %s
+                order by rank desc, id desc
+                limit :limit
+            )
+            select p.id, p.code, p.status, p.created_at, p.rank,
+                ts_headline('spanish', replace(replace(replace(replace(replace(concat_ws(' ', p.description, t.text),
+                    '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;'), q.query,
+                    'StartSel=<mark>, StopSel=</mark>, MinWords=8, MaxWords=25, MaxFragments=2, FragmentDelimiter=" … "')
+                    as snippet
+            from page p
+            cross join q
+            left join lateral (
+                select string_agg(concat_ws(' ', t.title, t.details), ' ' order by t.id) as text
+                from tasks t
+                where t.work_order_id = p.id
+            ) t on true
+            order by p.rank desc, p.id desc
+            """;
+
+    private static final String FIRST_PAGE = SEARCH.formatted("");
+
+    private static final String NEXT_PAGE = SEARCH.formatted(
+            "where rank < :rank or (rank = :rank and id < :afterId)");
+
+    private static final RowMapper<WorkOrderSearchHit> ROW_MAPPER = PostgresWorkOrderTextSearch::mapRow;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    PostgresWorkOrderTextSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Slice<WorkOrderSearchHit> search(String query, SearchCursor after, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", pageable.getPageSize() + 1);
+        if (after != null) {
+            parameters.addValue("rank", after.rank()).addValue("afterId", after.id());
+        }
+        List<WorkOrderSearchHit> hits = jdbcTemplate.query(after == null ? FIRST_PAGE : NEXT_PAGE, parameters,
+                ROW_MAPPER);
+        boolean hasNext = hits.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? hits.subList(0, pageable.getPageSize()) : hits, pageable, hasNext);
+    }
+
+    private static WorkOrderSearchHit mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new WorkOrderSearchHit(
+                rs.getLong("id"), rs.getString("code"), WorkOrderStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toLocalDateTime(), rs.getFloat("rank"), rs.getString("snippet"));
+    }
+}
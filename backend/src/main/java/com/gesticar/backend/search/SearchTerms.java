@@ -0,0 +1,57 @@
+package com.gesticar.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class SearchTerms {
+
+    static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "como", "con", "de", "del", "e", "el", "en", "entre", "es", "la", "las", "le", "lo",
+            "los", "mas", "muy", "no", "o", "para", "pero", "por", "que", "se", "sin", "sobre", "su", "sus",
+            "u", "un", "una", "y", "ya");
+
+    private SearchTerms() {
+    }
+
+    static List<String> of(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            String term = term(matcher.group());
+            if (term != null) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    static String term(String word) {
+        String folded = MARKS.matcher(Normalizer.normalize(word.toLowerCase(), Normalizer.Form.NFD)).replaceAll("");
+        if (STOPWORDS.contains(folded)) {
+            return null;
+        }
+        return stem(folded);
+    }
+
+    private static String stem(String word) {
+        int length = word.length();
+        if (length > 4 && word.endsWith("es") && "dlnrjz".indexOf(word.charAt(length - 3)) >= 0) {
+            return word.substring(0, length - 2);
+        }
+        if (length > 3 && word.endsWith("s")) {
+            return word.substring(0, length - 1);
+        }
+        return word;
+    }
+}
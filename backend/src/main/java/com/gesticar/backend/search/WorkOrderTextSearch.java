@@ -0,0 +1,20 @@
+package com.gesticar.backend.search;
+
+import com.gesticar.backend.dto.TaskResponse;
+import com.gesticar.backend.dto.WorkOrderSearchHit;
+import com.gesticar.backend.pagination.SearchCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+
+public interface WorkOrderTextSearch {
+
+    Slice<WorkOrderSearchHit> search(String query, SearchCursor after, Pageable pageable);
+
+    default void workOrderCreated(Long workOrderId, String description) {
+    }
+
+    default void tasksAdded(Long workOrderId, Collection<TaskResponse> tasks) {
+    }
+}
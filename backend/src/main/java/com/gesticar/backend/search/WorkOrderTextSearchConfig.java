@@ -0,0 +1,23 @@
+package com.gesticar.backend.search;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Configuration
+public class WorkOrderTextSearchConfig {
+
+    @Bean
+    public WorkOrderTextSearch workOrderTextSearch(DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate)
+            throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        return "H2".equals(product)
+                ? new InvertedIndexWorkOrderTextSearch(jdbcTemplate)
+                : new PostgresWorkOrderTextSearch(jdbcTemplate);
+    }
+}
@@ -0,0 +1,87 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.domain.Budget;
+import com.gesticar.backend.domain.BudgetItem;
+import com.gesticar.backend.dto.BudgetItemsRequest;
+import com.gesticar.backend.dto.BudgetItemsResponse;
+import com.gesticar.backend.exception.InvalidRequestException;
+import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.repository.BudgetItemRepository;
+import com.gesticar.backend.repository.BudgetRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class BudgetItemService {
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetItemRepository budgetItemRepository;
+
+    public BudgetItemService(BudgetRepository budgetRepository, BudgetItemRepository budgetItemRepository) {
+        this.budgetRepository = budgetRepository;
+        this.budgetItemRepository = budgetItemRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public BudgetItemsResponse findItems(Long budgetId) {
+        Budget budget = findBudget(budgetId);
+        return BudgetItemsResponse.from(budget, budgetItemRepository.findByBudgetId(budgetId));
+    }
+
+    @Transactional
+    public BudgetItemsResponse replaceItems(Long budgetId, BudgetItemsRequest request) {
+        Budget budget = findBudget(budgetId);
+        Map<String, BudgetItem> stored = new LinkedHashMap<>();
+        for (BudgetItem item : budgetItemRepository.findByBudgetId(budgetId)) {
+            stored.put(item.getClientId(), item);
+        }
+
+        List<BudgetItem> items = new ArrayList<>(request.items().size());
+        List<BudgetItem> created = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (BudgetItemsRequest.Item incoming : request.items()) {
+            if (!seen.add(incoming.clientId())) {
+                throw new InvalidRequestException("Ítem duplicado: " + incoming.clientId());
+            }
+            BudgetItem item = stored.remove(incoming.clientId());
+            if (item == null) {
+                item = new BudgetItem();
+                item.setBudget(budget);
+                item.setClientId(incoming.clientId());
+                created.add(item);
+            }
+            apply(item, incoming);
+            items.add(item);
+        }
+
+        if (!stored.isEmpty()) {
+            budgetItemRepository.deleteAllInBatch(stored.values());
+        }
+        budgetItemRepository.saveAll(created);
+        budget.applyItems(items, request.vatRate() != null ? request.vatRate() : budget.getVatRate());
+        budgetItemRepository.flush();
+        return BudgetItemsResponse.from(budget, items);
+    }
+
+    private Budget findBudget(Long budgetId) {
+        return budgetRepository.findById(budgetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Presupuesto no encontrado"));
+    }
+
+    private static void apply(BudgetItem item, BudgetItemsRequest.Item incoming) {
+        item.setType(incoming.type());
+        item.setDescription(incoming.description());
+        item.setQuantity(incoming.quantity());
+        if (item.getUnitPrice() == null || item.getUnitPrice().compareTo(incoming.unitPrice()) != 0) {
+            item.setUnitPrice(incoming.unitPrice().setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.domain.Budget;
+import com.gesticar.backend.domain.OutboxEventType;
+import com.gesticar.backend.domain.Task;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.BudgetBatchRequest;
+import com.gesticar.backend.dto.BudgetResponse;
+import com.gesticar.backend.dto.TaskBatchRequest;
+import com.gesticar.backend.dto.TaskResponse;
+import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.outbox.OutboxWriter;
+import com.gesticar.backend.repository.BudgetRepository;
+import com.gesticar.backend.repository.TaskRepository;
+import com.gesticar.backend.repository.WorkOrderRepository;
+import com.gesticar.backend.search.WorkOrderTextSearch;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class BulkCreationService {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final TaskRepository taskRepository;
+    private final BudgetRepository budgetRepository;
+    private final OutboxWriter outboxWriter;
+    private final ShopFloorCounters shopFloorCounters;
+    private final WorkOrderTextSearch workOrderTextSearch;
+
+    public BulkCreationService(WorkOrderRepository workOrderRepository, TaskRepository taskRepository,
+                               BudgetRepository budgetRepository, OutboxWriter outboxWriter,
+                               ShopFloorCounters shopFloorCounters, WorkOrderTextSearch workOrderTextSearch) {
+        this.workOrderRepository = workOrderRepository;
+        this.taskRepository = taskRepository;
+        this.budgetRepository = budgetRepository;
+        this.outboxWriter = outboxWriter;
+        this.shopFloorCounters = shopFloorCounters;
+        this.workOrderTextSearch = workOrderTextSearch;
+    }
+
+    @Transactional
+    public List<TaskResponse> createTasks(TaskBatchRequest request) {
+        WorkOrderStatus status = workOrderRepository.findStatusById(request.workOrderId())
+                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
+        WorkOrder workOrder = workOrderRepository.getReferenceById(request.workOrderId());
+        List<Task> tasks = request.tasks().stream().map(item -> {
+            Task task = new Task();
+            task.setTitle(item.title());
+            task.setDetails(item.details());
+            task.setEstimatedHours(item.estimatedHours());
+            task.setWorkOrder(workOrder);
+            return task;
+        }).toList();
+        taskRepository.saveAll(tasks);
+        List<TaskResponse> responses = tasks.stream().map(TaskResponse::from).toList();
+        outboxWriter.recordAll(responses, TaskResponse::workOrderId, OutboxEventType.TASK_ADDED);
+        taskRepository.flush();
+        shopFloorCounters.tasksAdded(status, responses);
+        workOrderTextSearch.tasksAdded(request.workOrderId(), responses);
+        return responses;
+    }
+
+    @Transactional
+    public List<BudgetResponse> createBudgets(BudgetBatchRequest request) {
+        if (!workOrderRepository.existsById(request.workOrderId())) {
+            throw new ResourceNotFoundException("OT no encontrada");
+        }
+        WorkOrder workOrder = workOrderRepository.getReferenceById(request.workOrderId());
+        List<Budget> budgets = request.budgets().stream().map(item -> {
+            Budget budget = new Budget();
+            budget.setAmount(item.amount());
+            budget.setApproved(Boolean.TRUE.equals(item.approved()));
+            budget.setNotes(item.notes());
+            budget.setWorkOrder(workOrder);
+            return budget;
+        }).toList();
+        budgetRepository.saveAll(budgets);
+        List<BudgetResponse> responses = budgets.stream().map(BudgetResponse::from).toList();
+        outboxWriter.recordAll(responses, BudgetResponse::workOrderId, OutboxEventType.BUDGET_ADDED);
+        budgetRepository.flush();
+        return responses;
+    }
+}
@@ -0,0 +1,41 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.dto.CustomerResponse;
+import com.gesticar.backend.repository.CustomerRepository;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class CustomerLookupService {
+
+    public static final String BY_RUT = "customersByRut";
+    public static final String BY_ID = "customersById";
+
+    private final CustomerRepository customerRepository;
+
+    public CustomerLookupService(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    @Cacheable(cacheNames = BY_RUT, key = "#rut", unless = "#result == null")
+    public Optional<CustomerResponse> findByRut(String rut) {
+        return customerRepository.findResponseByRut(rut);
+    }
+
+    @Cacheable(cacheNames = BY_ID, key = "#id", unless = "#result == null")
+    public Optional<CustomerResponse> findById(Long id) {
+        return customerRepository.findResponseById(id);
+    }
+
+    @Caching(put = {
+            @CachePut(cacheNames = BY_RUT, key = "#customer.rut()"),
+            @CachePut(cacheNames = BY_ID, key = "#customer.id()")
+    })
+    public CustomerResponse store(CustomerResponse customer) {
+        return customer;
+    }
+}
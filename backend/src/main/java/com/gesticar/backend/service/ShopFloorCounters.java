@@ -0,0 +1,218 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.ShopFloorCountersResponse;
+import com.gesticar.backend.dto.TaskResponse;
+import com.gesticar.backend.dto.WorkOrderStatusCount;
+import com.gesticar.backend.repository.TaskRepository;
+import com.gesticar.backend.repository.WorkOrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+public class ShopFloorCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(ShopFloorCounters.class);
+    private static final int OPTIMISTIC_ATTEMPTS = 3;
+
+    private final WorkOrderRepository workOrderRepository;
+    private final TaskRepository taskRepository;
+    private final Map<WorkOrderStatus, LongAdder> byStatus = new EnumMap<>(WorkOrderStatus.class);
+    private final LongAdder openEstimatedHours = new LongAdder();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicInteger committing = new AtomicInteger();
+    private final AtomicLong skippedReconciliations = new AtomicLong();
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+    private final long lockTimeoutNanos;
+    private volatile LocalDateTime reconciledAt;
+
+    public ShopFloorCounters(WorkOrderRepository workOrderRepository, TaskRepository taskRepository,
+                             @Value("${gesticar.counters.reconcile-lock-timeout:500ms}") Duration lockTimeout) {
+        this.workOrderRepository = workOrderRepository;
+        this.taskRepository = taskRepository;
+        this.lockTimeoutNanos = lockTimeout.toNanos();
+        for (WorkOrderStatus status : WorkOrderStatus.values()) {
+            byStatus.put(status, new LongAdder());
+        }
+    }
+
+    public ShopFloorCountersResponse snapshot() {
+        Map<WorkOrderStatus, Long> counts = new EnumMap<>(WorkOrderStatus.class);
+        long total = 0;
+        for (Map.Entry<WorkOrderStatus, LongAdder> entry : byStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            counts.put(entry.getKey(), count);
+            total += count;
+        }
+        return new ShopFloorCountersResponse(counts, total, openEstimatedHours.sum(), reconciledAt);
+    }
+
+    public void workOrderCreated(WorkOrderStatus status) {
+        afterCommit(() -> byStatus.get(status).increment());
+    }
+
+    public void statusChanged(Long workOrderId, WorkOrderStatus target) {
+        Set<WorkOrderStatus> predecessors = target.predecessors();
+        WorkOrderStatus previous = predecessors.size() == 1 ? predecessors.iterator().next() : null;
+        long closedHours = target == WorkOrderStatus.FINALIZADA
+                ? taskRepository.sumEstimatedHoursByWorkOrderId(workOrderId)
+                : 0;
+        afterCommit(() -> {
+            byStatus.get(target).increment();
+            if (previous != null) {
+                byStatus.get(previous).decrement();
+            }
+            openEstimatedHours.add(-closedHours);
+        });
+    }
+
+    public void tasksAdded(WorkOrderStatus workOrderStatus, Collection<TaskResponse> tasks) {
+        if (workOrderStatus == WorkOrderStatus.FINALIZADA) {
+            return;
+        }
+        long hours = tasks.stream()
+                .map(TaskResponse::estimatedHours)
+                .filter(Objects::nonNull)
+                .mapToLong(Integer::longValue)
+                .sum();
+        if (hours != 0) {
+            afterCommit(() -> openEstimatedHours.add(hours));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reconcile();
+        } catch (DataAccessException ex) {
+            log.warn("No se pudieron inicializar los contadores del taller: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${gesticar.counters.reconcile-interval:5m}",
+            fixedDelayString = "${gesticar.counters.reconcile-interval:5m}")
+    public void reconcile() {
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) {
+            if (tryReconcile()) {
+                return;
+            }
+        }
+        if (reconcileExclusively()) {
+            return;
+        }
+        long skipped = skippedReconciliations.incrementAndGet();
+        log.warn("Conciliación de contadores omitida: las confirmaciones no se detuvieron ({} rondas omitidas)",
+                skipped);
+    }
+
+    public long skippedReconciliations() {
+        return skippedReconciliations.get();
+    }
+
+    private boolean reconcileExclusively() {
+        Lock exclusive = commitLock.writeLock();
+        try {
+            if (!exclusive.tryLock(lockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        try {
+            return tryReconcile();
+        } finally {
+            exclusive.unlock();
+        }
+    }
+
+    private boolean tryReconcile() {
+        long updatesBefore = updates.get();
+        if (committing.get() != 0) {
+            log.debug("Conciliación de contadores pospuesta: hay transacciones confirmándose");
+            return false;
+        }
+        Map<WorkOrderStatus, Long> expected = new EnumMap<>(WorkOrderStatus.class);
+        byStatus.forEach((status, adder) -> expected.put(status, adder.sum()));
+        long expectedHours = openEstimatedHours.sum();
+
+        Map<WorkOrderStatus, Long> counts = new EnumMap<>(WorkOrderStatus.class);
+        for (WorkOrderStatusCount row : workOrderRepository.countByStatus()) {
+            counts.put(row.status(), row.count());
+        }
+        long hours = taskRepository.sumEstimatedHoursByWorkOrderStatusNot(WorkOrderStatus.FINALIZADA);
+        if (committing.get() != 0 || updates.get() != updatesBefore) {
+            log.debug("Conciliación de contadores pospuesta: hubo cambios confirmados durante la lectura");
+            return false;
+        }
+        for (Map.Entry<WorkOrderStatus, LongAdder> entry : byStatus.entrySet()) {
+            correct(entry.getKey().name(), entry.getValue(), expected.get(entry.getKey()),
+                    counts.getOrDefault(entry.getKey(), 0L));
+        }
+        correct("horas abiertas", openEstimatedHours, expectedHours, hours);
+        reconciledAt = LocalDateTime.now();
+        return true;
+    }
+
+    private static void correct(String name, LongAdder adder, long expected, long actual) {
+        long drift = expected - actual;
+        if (drift != 0) {
+            log.info("Contador {} corregido: {} de diferencia con la base de datos", name, drift);
+            adder.add(-drift);
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitLock.readLock().lock();
+            try {
+                update.run();
+                updates.incrementAndGet();
+            } finally {
+                commitLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCompletion() {
+                commitLock.readLock().lock();
+                committing.incrementAndGet();
+            }
+
+            @Override
+            public void afterCommit() {
+                update.run();
+                updates.incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                committing.decrementAndGet();
+                commitLock.readLock().unlock();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.dto.VehicleResponse;
+import com.gesticar.backend.repository.VehicleRepository;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class VehicleLookupService {
+
+    public static final String BY_PLATE = "vehiclesByPlate";
+    public static final String BY_ID = "vehiclesById";
+
+    private final VehicleRepository vehicleRepository;
+
+    public VehicleLookupService(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    @Cacheable(cacheNames = BY_PLATE, key = "#plate", unless = "#result == null")
+    public Optional<VehicleResponse> findByPlate(String plate) {
+        return vehicleRepository.findResponseByLicensePlate(plate);
+    }
+
+    @Cacheable(cacheNames = BY_ID, key = "#id", unless = "#result == null")
+    public Optional<VehicleResponse> findById(Long id) {
+        return vehicleRepository.findResponseById(id);
+    }
+
+    @Caching(put = {
+            @CachePut(cacheNames = BY_PLATE, key = "#vehicle.licensePlate()"),
+            @CachePut(cacheNames = BY_ID, key = "#vehicle.id()")
+    })
+    public VehicleResponse store(VehicleResponse vehicle) {
+        return vehicle;
+    }
+}
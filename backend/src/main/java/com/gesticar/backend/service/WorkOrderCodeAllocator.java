@@ -0,0 +1,78 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.dto.WorkOrderCodeBlockResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class WorkOrderCodeAllocator {
+
+    public static final String PREFIX = "OT-";
+    public static final int BLOCK_SIZE = 50;
+    public static final long FIRST_SERVER_NUMBER = 1000;
+
+    private static final String NEXT_BLOCK = "select nextval('work_order_code_seq')";
+    private static final Pattern SERVER_CODE = Pattern.compile("OT-(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    public WorkOrderCodeAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String nextCode() {
+        lock.lock();
+        try {
+            if (next == limit) {
+                next = reserveBlockStart();
+                limit = next + BLOCK_SIZE;
+            }
+            return PREFIX + next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public WorkOrderCodeBlockResponse reserveBlock() {
+        long first = reserveBlockStart();
+        long last = first + BLOCK_SIZE - 1;
+        jdbcTemplate.update("insert into work_order_code_blocks (first_number, last_number, reserved_at) values (?, ?, ?)",
+                first, last, LocalDateTime.now());
+        return new WorkOrderCodeBlockResponse(PREFIX, first, last);
+    }
+
+    public boolean acceptsClientCode(String code) {
+        Matcher matcher = SERVER_CODE.matcher(code);
+        if (!matcher.matches()) {
+            return true;
+        }
+        if (matcher.group(1).length() > 18) {
+            return false;
+        }
+        long number = Long.parseLong(matcher.group(1));
+        if (number < FIRST_SERVER_NUMBER) {
+            return true;
+        }
+        Boolean reserved = jdbcTemplate.queryForObject("""
+                select count(*) > 0 from work_order_code_blocks
+                where first_number <= ? and last_number >= ?
+                """, Boolean.class, number, number);
+        return Boolean.TRUE.equals(reserved);
+    }
+
+    private long reserveBlockStart() {
+        Long start = jdbcTemplate.queryForObject(NEXT_BLOCK, Long.class);
+        if (start == null) {
+            throw new IllegalStateException("La secuencia work_order_code_seq no entregó un valor");
+        }
+        return start;
+    }
+}
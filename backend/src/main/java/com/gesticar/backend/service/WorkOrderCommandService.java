@@ -0,0 +1,139 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.domain.Budget;
+import com.gesticar.backend.domain.Customer;
+import com.gesticar.backend.domain.OutboxEventType;
+import com.gesticar.backend.domain.Task;
+import com.gesticar.backend.domain.Vehicle;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.BudgetRequest;
+import com.gesticar.backend.dto.BudgetResponse;
+import com.gesticar.backend.dto.TaskRequest;
+import com.gesticar.backend.dto.TaskResponse;
+import com.gesticar.backend.dto.WorkOrderRequest;
+import com.gesticar.backend.dto.WorkOrderResponse;
+import com.gesticar.backend.exception.ConflictException;
+import com.gesticar.backend.exception.InvalidRequestException;
+import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.outbox.OutboxWriter;
+import com.gesticar.backend.repository.BudgetRepository;
+import com.gesticar.backend.repository.CustomerRepository;
+import com.gesticar.backend.repository.TaskRepository;
+import com.gesticar.backend.repository.VehicleRepository;
+import com.gesticar.backend.repository.WorkOrderRepository;
+import com.gesticar.backend.search.WorkOrderTextSearch;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class WorkOrderCommandService {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final CustomerRepository customerRepository;
+    private final VehicleRepository vehicleRepository;
+    private final TaskRepository taskRepository;
+    private final BudgetRepository budgetRepository;
+    private final OutboxWriter outboxWriter;
+    private final WorkOrderCodeAllocator codeAllocator;
+    private final ShopFloorCounters shopFloorCounters;
+    private final WorkOrderTextSearch workOrderTextSearch;
+
+    public WorkOrderCommandService(WorkOrderRepository workOrderRepository, CustomerRepository customerRepository,
+                                   VehicleRepository vehicleRepository, TaskRepository taskRepository,
+                                   BudgetRepository budgetRepository, OutboxWriter outboxWriter,
+                                   WorkOrderCodeAllocator codeAllocator, ShopFloorCounters shopFloorCounters,
+                                   WorkOrderTextSearch workOrderTextSearch) {
+        this.workOrderRepository = workOrderRepository;
+        this.customerRepository = customerRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.taskRepository = taskRepository;
+        this.budgetRepository = budgetRepository;
+        this.outboxWriter = outboxWriter;
+        this.codeAllocator = codeAllocator;
+        this.shopFloorCounters = shopFloorCounters;
+        this.workOrderTextSearch = workOrderTextSearch;
+    }
+
+    @Transactional
+    public WorkOrderResponse create(WorkOrderRequest request) {
+        if (request.status() != null && request.status() != WorkOrderStatus.BORRADOR) {
+            throw new InvalidRequestException(
+                    "Una OT nueva se crea en BORRADOR; usa /api/ots/{id}/estado para avanzarla");
+        }
+        Customer customer = customerRepository.findById(request.customerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente no encontrado"));
+        Vehicle vehicle = request.vehicleId() != null
+                ? vehicleRepository.findById(request.vehicleId())
+                .orElseThrow(() -> new ResourceNotFoundException("Vehículo no encontrado"))
+                : null;
+
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setCode(request.code() != null && !request.code().isBlank()
+                ? clientCode(request.code().trim())
+                : codeAllocator.nextCode());
+        workOrder.setDescription(request.description());
+        workOrder.setCustomer(customer);
+        workOrder.setVehicle(vehicle);
+        WorkOrderResponse response = WorkOrderResponse.from(workOrderRepository.saveAndFlush(workOrder));
+        outboxWriter.record(response.id(), OutboxEventType.WORK_ORDER_CREATED, response);
+        shopFloorCounters.workOrderCreated(response.status());
+        workOrderTextSearch.workOrderCreated(response.id(), response.description());
+        return response;
+    }
+
+    @Transactional
+    public WorkOrderResponse updateStatus(Long id, WorkOrderStatus status) {
+        WorkOrderResponse response = workOrderRepository.transition(id, status)
+                .orElseThrow(() -> rejectedTransition(id, status));
+        outboxWriter.record(response.id(), OutboxEventType.WORK_ORDER_STATUS_CHANGED, response);
+        shopFloorCounters.statusChanged(response.id(), status);
+        return response;
+    }
+
+    @Transactional
+    public TaskResponse addTask(TaskRequest request) {
+        WorkOrder workOrder = workOrderRepository.findById(request.workOrderId())
+                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
+        Task task = new Task();
+        task.setTitle(request.title());
+        task.setDetails(request.details());
+        task.setEstimatedHours(request.estimatedHours());
+        task.setWorkOrder(workOrder);
+        TaskResponse response = TaskResponse.from(taskRepository.save(task));
+        outboxWriter.record(response.workOrderId(), OutboxEventType.TASK_ADDED, response);
+        shopFloorCounters.tasksAdded(workOrder.getStatus(), List.of(response));
+        workOrderTextSearch.tasksAdded(workOrder.getId(), List.of(response));
+        return response;
+    }
+
+    @Transactional
+    public BudgetResponse addBudget(BudgetRequest request) {
+        WorkOrder workOrder = workOrderRepository.findById(request.workOrderId())
+                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
+        Budget budget = new Budget();
+        budget.setAmount(request.amount());
+        budget.setApproved(Boolean.TRUE.equals(request.approved()));
+        budget.setNotes(request.notes());
+        budget.setWorkOrder(workOrder);
+        BudgetResponse response = BudgetResponse.from(budgetRepository.save(budget));
+        outboxWriter.record(response.workOrderId(), OutboxEventType.BUDGET_ADDED, response);
+        return response;
+    }
+
+    private String clientCode(String code) {
+        if (!codeAllocator.acceptsClientCode(code)) {
+            throw new InvalidRequestException("El código " + code
+                    + " es de la numeración del servidor; usa uno de un bloque reservado en /api/ots/codigos");
+        }
+        return code;
+    }
+
+    private RuntimeException rejectedTransition(Long id, WorkOrderStatus target) {
+        WorkOrderStatus current = workOrderRepository.findStatusById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
+        return new ConflictException("La OT no puede pasar de " + current + " a " + target);
+    }
+}
@@ -0,0 +1,26 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.WorkOrderDetailResponse;
+import com.gesticar.backend.exception.ResourceNotFoundException;
+import com.gesticar.backend.repository.WorkOrderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class WorkOrderDetailService {
+
+    private final WorkOrderRepository workOrderRepository;
+
+    public WorkOrderDetailService(WorkOrderRepository workOrderRepository) {
+        this.workOrderRepository = workOrderRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public WorkOrderDetailResponse findDetail(Long id) {
+        WorkOrder workOrder = workOrderRepository.findWithTasksById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("OT no encontrada"));
+        workOrderRepository.findWithBudgetsById(id);
+        return WorkOrderDetailResponse.from(workOrder);
+    }
+}
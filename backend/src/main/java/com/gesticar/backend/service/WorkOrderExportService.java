@@ -0,0 +1,67 @@
+package com.gesticar.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gesticar.backend.domain.WorkOrder;
+import com.gesticar.backend.dto.WorkOrderExportRow;
+import com.gesticar.backend.repository.WorkOrderRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class WorkOrderExportService {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final int flushEvery;
+    private final Duration timeout;
+
+    public WorkOrderExportService(WorkOrderRepository workOrderRepository, EntityManager entityManager,
+                                  ObjectMapper objectMapper,
+                                  @Value("${gesticar.export.flush-every:500}") int flushEvery,
+                                  @Value("${gesticar.export.timeout:30m}") Duration timeout) {
+        this.workOrderRepository = workOrderRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(WorkOrderExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        this.flushEvery = flushEvery;
+        this.timeout = timeout;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (Stream<WorkOrder> rows = workOrderRepository.streamAllForExport()) {
+            Iterator<WorkOrder> iterator = rows.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                rowWriter.writeValue(generator, WorkOrderExportRow.from(iterator.next()));
+                generator.writeRaw('\n');
+                if (++written % flushEvery == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        generator.flush();
+    }
+}
@@ -0,0 +1,36 @@
+package com.gesticar.backend.web;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class DatabaseAdmissionConfig implements WebMvcConfigurer {
+
+    private final DatabaseAdmissionInterceptor admissionInterceptor;
+
+    public DatabaseAdmissionConfig(@Value("${gesticar.db.admission.permits:10}") int permits,
+                                   @Value("${gesticar.db.admission.timeout:2s}") Duration timeout) {
+        this.admissionInterceptor = new DatabaseAdmissionInterceptor(permits, timeout);
+    }
+
+    @Bean
+    public Gauge databaseAdmissionPermits(MeterRegistry meterRegistry) {
+        return Gauge.builder("gesticar.db.admission.available", admissionInterceptor,
+                        DatabaseAdmissionInterceptor::availablePermits)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/ots/contadores");
+    }
+}
@@ -0,0 +1,11 @@
+CREATE TABLE outbox_events_dead (
+    id BIGINT PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(1000),
+    failed_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,5 @@
+CREATE TABLE work_order_code_blocks (
+    first_number BIGINT PRIMARY KEY,
+    last_number BIGINT NOT NULL,
+    reserved_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,13 @@
+CREATE INDEX idx_vehicles_customer_id ON vehicles (customer_id);
+
+CREATE INDEX idx_work_orders_customer_id ON work_orders (customer_id);
+
+CREATE INDEX idx_work_orders_vehicle_id ON work_orders (vehicle_id);
+
+CREATE INDEX idx_work_orders_status_created_at ON work_orders (status, created_at DESC, id);
+
+CREATE INDEX idx_work_orders_created_at_id ON work_orders (created_at DESC, id DESC);
+
+CREATE INDEX idx_tasks_work_order_id ON tasks (work_order_id);
+
+CREATE INDEX idx_budgets_work_order_id ON budgets (work_order_id);
@@ -0,0 +1,7 @@
+DROP INDEX idx_work_orders_customer_id;
+
+DROP INDEX idx_work_orders_vehicle_id;
+
+CREATE INDEX idx_work_orders_customer_created_at ON work_orders (customer_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_work_orders_vehicle_created_at ON work_orders (vehicle_id, created_at DESC, id DESC);
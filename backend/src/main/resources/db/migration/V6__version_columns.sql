@@ -0,0 +1,9 @@
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE vehicles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE work_orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE budgets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+CREATE SEQUENCE work_order_code_seq START WITH 1000 INCREMENT BY 50;
@@ -0,0 +1,27 @@
+ALTER TABLE budgets ADD COLUMN vat_rate INTEGER NOT NULL DEFAULT 19;
+
+ALTER TABLE budgets ADD COLUMN parts_subtotal NUMERIC(12,2) NOT NULL DEFAULT 0;
+
+ALTER TABLE budgets ADD COLUMN labor_subtotal NUMERIC(12,2) NOT NULL DEFAULT 0;
+
+ALTER TABLE budgets ADD COLUMN subtotal NUMERIC(12,2) NOT NULL DEFAULT 0;
+
+ALTER TABLE budgets ADD COLUMN vat NUMERIC(12,2) NOT NULL DEFAULT 0;
+
+ALTER TABLE budgets ADD COLUMN total NUMERIC(12,2) NOT NULL DEFAULT 0;
+
+CREATE SEQUENCE budget_items_id_seq INCREMENT BY 50;
+
+CREATE TABLE budget_items (
+    id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    budget_id BIGINT NOT NULL REFERENCES budgets(id),
+    client_id VARCHAR(64) NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(12,2) NOT NULL,
+    CONSTRAINT uk_budget_items_budget_client UNIQUE (budget_id, client_id)
+);
+
+UPDATE budgets SET subtotal = amount, total = amount;
@@ -7,7 +7,8 @@ import org.springframework.boot.test.context.SpringBootTest;
         "spring.datasource.url=jdbc:h2:mem:gesticar;DB_CLOSE_DELAY=-1",
         "spring.datasource.driverClassName=org.h2.Driver",
         "spring.jpa.hibernate.ddl-auto=none",
-        "spring.flyway.enabled=false"
+        "spring.flyway.enabled=false",
+        "gesticar.outbox.relay.enabled=false"
 })
 class BackendApplicationTests {
 
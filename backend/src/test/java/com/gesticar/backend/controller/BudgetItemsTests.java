@@ -0,0 +1,163 @@
+package com.gesticar.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class BudgetItemsTests {
+
+    private static final String ITEMS = """
+            {"vatRate":19,"items":[
+              {"clientId":"rep-1","type":"REP","description":"Pastillas","quantity":2,"unitPrice":25000},
+              {"clientId":"rep-2","type":"REP","description":"Disco","quantity":1,"unitPrice":40000},
+              {"clientId":"mo-1","type":"MO","description":"Mano de obra","quantity":3,"unitPrice":15000}
+            ]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void replacingItemsKeepsTotalsOnTheBudget() throws Exception {
+        Long budgetId = createBudget();
+
+        replaceItems(budgetId, ITEMS)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.partsSubtotal").value(90000))
+                .andExpect(jsonPath("$.laborSubtotal").value(45000))
+                .andExpect(jsonPath("$.subtotal").value(135000))
+                .andExpect(jsonPath("$.vat").value(25650))
+                .andExpect(jsonPath("$.total").value(160650));
+
+        assertThat(jdbcTemplate.queryForObject("select amount from budgets where id = ?", BigDecimal.class,
+                budgetId)).isEqualByComparingTo("160650");
+    }
+
+    @Test
+    void upsertDiffsAgainstStoredItems() throws Exception {
+        Long budgetId = createBudget();
+        Long keptId = idOf(replaceItems(budgetId, ITEMS), "mo-1");
+
+        JsonNode body = objectMapper.readTree(replaceItems(budgetId, """
+                {"items":[
+                  {"clientId":"rep-1","type":"REP","description":"Pastillas","quantity":4,"unitPrice":25000},
+                  {"clientId":"mo-1","type":"MO","description":"Mano de obra","quantity":3,"unitPrice":15000},
+                  {"clientId":"rep-3","type":"REP","description":"Líquido de frenos","quantity":1,"unitPrice":8000}
+                ]}
+                """).andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+
+        assertThat(body.get("items")).hasSize(3);
+        assertThat(body.get("total").decimalValue()).isEqualByComparingTo("182070");
+        assertThat(idOf(body, "mo-1")).isEqualTo(keptId);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from budget_items where budget_id = ? and client_id = 'rep-2'", Integer.class,
+                budgetId)).isZero();
+    }
+
+    @Test
+    void unchangedItemsAreNotRewritten() throws Exception {
+        Long budgetId = createBudget();
+        replaceItems(budgetId, ITEMS).andExpect(status().isOk());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        replaceItems(budgetId, ITEMS).andExpect(status().isOk());
+
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+
+    @Test
+    void duplicatedClientIdsAreRejected() throws Exception {
+        Long budgetId = createBudget();
+
+        replaceItems(budgetId, """
+                {"items":[
+                  {"clientId":"x","type":"REP","description":"A","quantity":1,"unitPrice":1},
+                  {"clientId":"x","type":"MO","description":"B","quantity":1,"unitPrice":1}
+                ]}
+                """).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/presupuestos/{id}/items", budgetId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    void nullItemsAreRejected() throws Exception {
+        Long budgetId = createBudget();
+
+        replaceItems(budgetId, """
+                {"items":[
+                  {"clientId":"x","type":"REP","description":"A","quantity":1,"unitPrice":1},
+                  null
+                ]}
+                """).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/presupuestos/{id}/items", budgetId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    private Long createBudget() throws Exception {
+        String body = mockMvc.perform(post("/api/presupuestos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount":1,"workOrderId":1}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private ResultActions replaceItems(Long budgetId, String body) throws Exception {
+        return mockMvc.perform(put("/api/presupuestos/{id}/items", budgetId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private Long idOf(ResultActions result, String clientId) throws Exception {
+        return idOf(objectMapper.readTree(result.andReturn().getResponse().getContentAsString()), clientId);
+    }
+
+    private static Long idOf(JsonNode body, String clientId) {
+        for (JsonNode item : body.get("items")) {
+            if (clientId.equals(item.get("clientId").asText())) {
+                return item.get("id").asLong();
+            }
+        }
+        return null;
+    }
+}
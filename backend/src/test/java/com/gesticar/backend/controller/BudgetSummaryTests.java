@@ -0,0 +1,107 @@
+package com.gesticar.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@Transactional
+class BudgetSummaryTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Long draft = insertWorkOrder("OT-RESUMEN-1", "BORRADOR", "2001-03-05 10:00:00", 1L);
+        Long started = insertWorkOrder("OT-RESUMEN-2", "INICIADA", "2001-03-20 10:00:00", 2L);
+        Long april = insertWorkOrder("OT-RESUMEN-3", "INICIADA", "2001-04-02 10:00:00", 2L);
+        insertBudget(draft, "100000", false);
+        insertBudget(draft, "50000", false);
+        insertBudget(started, "200000", true);
+        insertBudget(april, "120000", true);
+        insertBudget(april, "30000", false);
+    }
+
+    @Test
+    void summarizesByStatusWithinTheDateRange() throws Exception {
+        mockMvc.perform(get("/api/presupuestos/resumen")
+                        .param("groupBy", "STATUS")
+                        .param("from", "2001-03-01")
+                        .param("to", "2001-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].key").value("BORRADOR"))
+                .andExpect(jsonPath("$[0].approvedCount").value(0))
+                .andExpect(jsonPath("$[0].approvedTotal").value(0))
+                .andExpect(jsonPath("$[0].approvedAverage").doesNotExist())
+                .andExpect(jsonPath("$[0].pendingCount").value(2))
+                .andExpect(jsonPath("$[0].pendingTotal").value(150000))
+                .andExpect(jsonPath("$[0].pendingAverage").value(75000))
+                .andExpect(jsonPath("$[1].key").value("INICIADA"))
+                .andExpect(jsonPath("$[1].approvedCount").value(1))
+                .andExpect(jsonPath("$[1].approvedTotal").value(200000));
+    }
+
+    @Test
+    void summarizesByMonth() throws Exception {
+        mockMvc.perform(get("/api/presupuestos/resumen")
+                        .param("groupBy", "MONTH")
+                        .param("from", "2001-01-01")
+                        .param("to", "2001-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].key").value("2001-03"))
+                .andExpect(jsonPath("$[0].approvedTotal").value(200000))
+                .andExpect(jsonPath("$[0].pendingTotal").value(150000))
+                .andExpect(jsonPath("$[1].key").value("2001-04"))
+                .andExpect(jsonPath("$[1].approvedCount").value(1))
+                .andExpect(jsonPath("$[1].pendingCount").value(1));
+    }
+
+    @Test
+    void summarizesByCustomer() throws Exception {
+        mockMvc.perform(get("/api/presupuestos/resumen")
+                        .param("groupBy", "CUSTOMER")
+                        .param("from", "2001-01-01")
+                        .param("to", "2001-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].label").value("Ana Carvallo"))
+                .andExpect(jsonPath("$[1].key").value("2"))
+                .andExpect(jsonPath("$[1].approvedTotal").value(320000))
+                .andExpect(jsonPath("$[1].approvedAverage").value(160000));
+    }
+
+    private Long insertWorkOrder(String code, String status, String createdAt, Long customerId) {
+        jdbcTemplate.update("""
+                insert into work_orders (id, code, description, status, created_at, customer_id)
+                values (nextval('work_orders_id_seq'), ?, 'Resumen', ?, cast(? as timestamp), ?)
+                """, code, status, createdAt, customerId);
+        return jdbcTemplate.queryForObject("select id from work_orders where code = ?", Long.class, code);
+    }
+
+    private void insertBudget(Long workOrderId, String amount, boolean approved) {
+        jdbcTemplate.update("""
+                insert into budgets (id, amount, approved, work_order_id)
+                values (nextval('budgets_id_seq'), cast(? as numeric(12,2)), ?, ?)
+                """, amount, approved, workOrderId);
+    }
+}
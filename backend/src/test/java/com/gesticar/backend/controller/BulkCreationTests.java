@@ -0,0 +1,94 @@
+package com.gesticar.backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class BulkCreationTests {
+
+    private static final long MISSING_WORK_ORDER = 987654321L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchesAreStoredForTheirWorkOrder() throws Exception {
+        send("/api/tareas/lote", """
+                {"workOrderId":1,"tasks":[{"title":"Lote uno","estimatedHours":1},{"title":"Lote dos"}]}
+                """)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].workOrderId").value(1));
+        send("/api/presupuestos/lote", """
+                {"workOrderId":1,"budgets":[{"amount":15000,"notes":"Lote uno"},{"amount":9000,"approved":true}]}
+                """)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].approved").value(true));
+    }
+
+    @Test
+    void unknownWorkOrderIsNotFound() throws Exception {
+        send("/api/tareas/lote", """
+                {"workOrderId":%d,"tasks":[{"title":"Huérfana"}]}
+                """.formatted(MISSING_WORK_ORDER))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("OT no encontrada"));
+        send("/api/presupuestos/lote", """
+                {"workOrderId":%d,"budgets":[{"amount":1000}]}
+                """.formatted(MISSING_WORK_ORDER))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("OT no encontrada"));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tasks where work_order_id = ?", Integer.class,
+                MISSING_WORK_ORDER)).isZero();
+    }
+
+    @Test
+    void nullItemsAreRejected() throws Exception {
+        send("/api/tareas/lote", """
+                {"workOrderId":1,"tasks":[null]}
+                """)
+                .andExpect(status().isBadRequest());
+        send("/api/presupuestos/lote", """
+                {"workOrderId":1,"budgets":[{"amount":1000},null]}
+                """)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void duplicateUniqueKeyIsConflict() throws Exception {
+        String customer = """
+                {"rut":"22.222.222-2","firstName":"Berta","lastName":"Rojas"}
+                """;
+        send("/api/clientes", customer).andExpect(status().isCreated());
+
+        send("/api/clientes", customer)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Los datos entran en conflicto con registros existentes"));
+    }
+
+    private ResultActions send(String uri, String body) throws Exception {
+        return mockMvc.perform(post(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}
@@ -0,0 +1,157 @@
+package com.gesticar.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.pagination.KeysetPages;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class FilteredListPagingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void tasksOfAWorkOrderAreWalkedWithTheNextCursor() throws Exception {
+        long workOrderId = createWorkOrder(1L);
+        addTasks(workOrderId, 5);
+
+        List<List<Long>> pages = walk("/api/tareas?workOrderId=" + workOrderId + "&limit=2");
+
+        assertThat(pages).extracting(List::size).containsExactly(2, 2, 1);
+        List<Long> ids = pages.stream().flatMap(List::stream).toList();
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    void workOrdersOfACustomerAreWalkedNewestFirst() throws Exception {
+        long customerId = createCustomer("33.333.333-3");
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            created.add(createWorkOrder(customerId));
+        }
+
+        List<List<Long>> pages = walk("/api/ots?customerId=" + customerId + "&limit=2");
+
+        assertThat(pages).extracting(List::size).containsExactly(2, 1);
+        Collections.reverse(created);
+        assertThat(pages.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(created);
+    }
+
+    @Test
+    void vehiclesAndBudgetsFilteredListsArePaged() throws Exception {
+        mockMvc.perform(get("/api/vehiculos?customerId=1&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/presupuestos?workOrderId=1&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void invalidCursorIsRejected() throws Exception {
+        for (String uri : List.of(
+                "/api/ots?customerId=1&cursor=no-es-un-cursor",
+                "/api/vehiculos?customerId=1&cursor=no-es-un-cursor",
+                "/api/tareas?workOrderId=1&cursor=no-es-un-cursor",
+                "/api/presupuestos?workOrderId=1&cursor=no-es-un-cursor")) {
+            mockMvc.perform(get(uri))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Cursor inválido"));
+        }
+    }
+
+    @Test
+    void pageSizeIsClampedToTheAllowedRange() throws Exception {
+        long workOrderId = createWorkOrder(1L);
+        addTasks(workOrderId, KeysetPages.MAX_LIMIT + 5);
+
+        mockMvc.perform(get("/api/tareas?workOrderId=" + workOrderId + "&limit=1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(KeysetPages.MAX_LIMIT)))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("limit=" + KeysetPages.MAX_LIMIT)));
+        mockMvc.perform(get("/api/tareas?workOrderId=" + workOrderId))
+                .andExpect(jsonPath("$", hasSize(KeysetPages.DEFAULT_LIMIT)));
+        mockMvc.perform(get("/api/tareas?workOrderId=" + workOrderId + "&limit=0"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    private List<List<Long>> walk(String firstUri) throws Exception {
+        List<List<Long>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletResponse response = mockMvc.perform(get(cursor == null
+                            ? firstUri
+                            : firstUri + "&cursor=" + cursor))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode item : objectMapper.readTree(response.getContentAsString())) {
+                ids.add(item.get("id").asLong());
+            }
+            pages.add(ids);
+            cursor = response.getHeader(KeysetPages.NEXT_CURSOR_HEADER);
+        } while (cursor != null && pages.size() < 10);
+        return pages;
+    }
+
+    private long createCustomer(String rut) throws Exception {
+        String body = mockMvc.perform(post("/api/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"rut":"%s","firstName":"Carla","lastName":"Paginada"}
+                                """.formatted(rut)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private long createWorkOrder(long customerId) throws Exception {
+        String body = mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"description":"Paginación","customerId":%d}
+                                """.formatted(customerId)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private void addTasks(long workOrderId, int count) throws Exception {
+        String tasks = IntStream.range(0, count)
+                .mapToObj(i -> "{\"title\":\"Tarea " + i + "\"}")
+                .collect(Collectors.joining(","));
+        mockMvc.perform(post("/api/tareas/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"workOrderId\":" + workOrderId + ",\"tasks\":[" + tasks + "]}"))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,118 @@
+package com.gesticar.backend.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.cache.type=none")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadModelQueryCountTests {
+
+    private static final int EXTRA_ROWS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < EXTRA_ROWS; i++) {
+            jdbcTemplate.update("INSERT INTO customers (rut, first_name, last_name) VALUES (?, 'Cliente', 'Prueba')",
+                    "rut-" + i);
+            Long customerId = jdbcTemplate.queryForObject("SELECT id FROM customers WHERE rut = ?", Long.class,
+                    "rut-" + i);
+            jdbcTemplate.update("INSERT INTO vehicles (license_plate, brand, model, customer_id) VALUES (?, 'Kia', 'Rio', ?)",
+                    "PL-" + i, customerId);
+            Long vehicleId = jdbcTemplate.queryForObject("SELECT id FROM vehicles WHERE license_plate = ?", Long.class,
+                    "PL-" + i);
+            jdbcTemplate.update("INSERT INTO work_orders (code, description, status, customer_id, vehicle_id) "
+                    + "VALUES (?, 'Mantención', 'BORRADOR', ?, ?)", "QC-" + i, customerId, vehicleId);
+            Long workOrderId = jdbcTemplate.queryForObject("SELECT id FROM work_orders WHERE code = ?", Long.class,
+                    "QC-" + i);
+            jdbcTemplate.update("INSERT INTO tasks (title, work_order_id) VALUES ('Revisión', ?)", workOrderId);
+            jdbcTemplate.update("INSERT INTO budgets (amount, work_order_id) VALUES (1000, ?)", workOrderId);
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/ots",
+            "/api/ots?customerId=1",
+            "/api/ots/buscar?status=BORRADOR&code=QC",
+            "/api/clientes",
+            "/api/clientes?rut=12.345.678-9",
+            "/api/vehiculos",
+            "/api/vehiculos?customerId=1",
+            "/api/tareas",
+            "/api/tareas?workOrderId=1",
+            "/api/presupuestos",
+            "/api/presupuestos?workOrderId=1"
+    })
+    void readEndpointsIssueASingleStatement(String uri) throws Exception {
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).as(uri).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).as(uri).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/ots/1", "/api/clientes/1", "/api/vehiculos/1"})
+    void conditionalGetAnswersNotModifiedFromTheVersionAlone(String uri) throws Exception {
+        String etag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(statistics.getPrepareStatementCount()).as(uri).isEqualTo(2);
+
+        statistics.clear();
+        mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).as(uri).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).as(uri).isZero();
+    }
+
+    @Test
+    void detailEndpointIssuesAtMostTwoStatements() throws Exception {
+        mockMvc.perform(get("/api/ots/1/detalle"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customer.rut").value("12.345.678-9"))
+                .andExpect(jsonPath("$.vehicle.licensePlate").value("AA-BB-11"))
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.budgets.length()").value(1));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+}
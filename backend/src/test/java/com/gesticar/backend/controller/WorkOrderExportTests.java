@@ -0,0 +1,120 @@
+package com.gesticar.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.WorkOrderExportRow;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"gesticar.export.timeout=45m", "gesticar.export.flush-every=1"})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class WorkOrderExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void exportWritesOneJsonObjectPerLine() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/ots/exportar"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<WorkOrderExportRow> rows = jdbcTemplate.query("""
+                select w.id, w.code, w.description, w.status, w.created_at, c.id as customer_id, c.rut,
+                       v.id as vehicle_id, v.license_plate
+                from work_orders w
+                left join customers c on c.id = w.customer_id
+                left join vehicles v on v.id = w.vehicle_id
+                order by w.id
+                """, (rs, rowNum) -> new WorkOrderExportRow(
+                rs.getLong("id"),
+                rs.getString("code"),
+                rs.getString("description"),
+                WorkOrderStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("customer_id", Long.class),
+                rs.getString("rut"),
+                rs.getObject("vehicle_id", Long.class),
+                rs.getString("license_plate")));
+        String expected = rows.stream()
+                .map(this::json)
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        assertThat(body).isEqualTo(expected);
+        assertThat(body).startsWith("{\"id\":1,\"code\":\"OT-001\",");
+        assertThat(body.split("\n")).hasSize(rows.size()).noneMatch(line -> line.startsWith(" "));
+    }
+
+    @Test
+    void exportUsesItsOwnAsyncTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/ots/exportar"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofMinutes(45).toMillis());
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+
+    @Test
+    void exportLoadsEveryRowWithASingleStatement() throws Exception {
+        jdbcTemplate.update("""
+                insert into work_orders (code, description, status, customer_id, vehicle_id)
+                values ('OT-EXPORTA-CRUZADA', 'Vehículo de otro cliente', 'BORRADOR', 2, 1)
+                """);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        try {
+            statistics.clear();
+            MvcResult started = mockMvc.perform(get("/api/ots/exportar"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        } finally {
+            jdbcTemplate.update("delete from work_orders where code = 'OT-EXPORTA-CRUZADA'");
+        }
+    }
+
+    private String json(WorkOrderExportRow row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
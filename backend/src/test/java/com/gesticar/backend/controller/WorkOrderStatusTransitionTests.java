@@ -0,0 +1,120 @@
+package com.gesticar.backend.controller;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.cache.type=none")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class WorkOrderStatusTransitionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void transitionTableOnlyAllowsListedPredecessors() {
+        assertThat(WorkOrderStatus.INICIADA.canTransitionFrom(WorkOrderStatus.BORRADOR)).isTrue();
+        assertThat(WorkOrderStatus.FINALIZADA.canTransitionFrom(WorkOrderStatus.INICIADA)).isTrue();
+        assertThat(WorkOrderStatus.FINALIZADA.canTransitionFrom(WorkOrderStatus.BORRADOR)).isFalse();
+        assertThat(WorkOrderStatus.BORRADOR.canTransitionFrom(WorkOrderStatus.FINALIZADA)).isFalse();
+    }
+
+    @Test
+    void allowedTransitionUpdatesStatusAndVersionInPlace() throws Exception {
+        Long id = createWorkOrder("OT-TRANSICION-1");
+        Long version = currentVersion(id);
+
+        changeStatus(id, "INICIADA")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.status").value("INICIADA"))
+                .andExpect(jsonPath("$.customer.id").value(1))
+                .andExpect(jsonPath("$.vehicle.licensePlate").value("AA-BB-11"));
+
+        assertThat(currentVersion(id)).isEqualTo(version + 1);
+    }
+
+    @Test
+    void disallowedTransitionIsRejectedWithConflict() throws Exception {
+        Long id = createWorkOrder("OT-TRANSICION-2");
+
+        changeStatus(id, "FINALIZADA")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("La OT no puede pasar de BORRADOR a FINALIZADA"));
+
+        assertThat(jdbcTemplate.queryForObject("select status from work_orders where id = ?", String.class, id))
+                .isEqualTo("BORRADOR");
+    }
+
+    @Test
+    void repeatedTransitionLosesTheRace() throws Exception {
+        Long id = createWorkOrder("OT-TRANSICION-3");
+
+        changeStatus(id, "INICIADA").andExpect(status().isOk());
+        changeStatus(id, "INICIADA").andExpect(status().isConflict());
+    }
+
+    @Test
+    void newWorkOrdersAreOnlyCreatedAsDrafts() throws Exception {
+        mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code":"OT-TRANSICION-4","description":"Frenos","status":"FINALIZADA","customerId":1}
+                                """))
+                .andExpect(status().isBadRequest());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from work_orders where code = 'OT-TRANSICION-4'",
+                Integer.class)).isZero();
+
+        mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code":"OT-TRANSICION-5","description":"Frenos","status":"BORRADOR","customerId":1}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("BORRADOR"));
+    }
+
+    @Test
+    void unknownWorkOrderIsNotFound() throws Exception {
+        changeStatus(999999L, "INICIADA").andExpect(status().isNotFound());
+    }
+
+    private Long createWorkOrder(String code) throws Exception {
+        mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code":"%s","description":"Cambio de aceite","customerId":1,"vehicleId":1}
+                                """.formatted(code)))
+                .andExpect(status().isCreated());
+        return jdbcTemplate.queryForObject("select id from work_orders where code = ?", Long.class, code);
+    }
+
+    private ResultActions changeStatus(Long id, String status) throws Exception {
+        return mockMvc.perform(patch("/api/ots/{id}/estado", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"status":"%s"}
+                        """.formatted(status)));
+    }
+
+    private Long currentVersion(Long id) {
+        return jdbcTemplate.queryForObject("select version from work_orders where id = ?", Long.class, id);
+    }
+}
@@ -0,0 +1,143 @@
+package com.gesticar.backend.imports;
+
+import com.gesticar.backend.domain.Plates;
+import com.gesticar.backend.domain.Ruts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class CustomerVehicleImportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void csvImportMergesCustomersAndVehiclesAndReportsRejectedRows() throws Exception {
+        String csv = """
+                rut,firstName,lastName,phone,email,licensePlate,brand,model,year
+                7654321-6,Rosa,Pino,,rosa@example.com,kl mn 45,Kia,Rio,2020
+                20.111.222-2,Jorge,Soto,+56933333333,,,,,
+                20111222-3,Malo,Digito,,,,,,
+                15999888-6,Eva,Rojas,,,XX-11,Suzuki,,
+                7.654.321-6,Rosa,Pino Actualizada,,,KLMN45,Kia,Rio,2021
+                """;
+
+        mockMvc.perform(post("/api/clientes/importar").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(5))
+                .andExpect(jsonPath("$.accepted").value(3))
+                .andExpect(jsonPath("$.rejectedCount").value(2))
+                .andExpect(jsonPath("$.rejected", hasSize(2)))
+                .andExpect(jsonPath("$.rejected[0].row").value(3))
+                .andExpect(jsonPath("$.rejected[0].reason").value("RUT inválido"))
+                .andExpect(jsonPath("$.rejected[1].row").value(4))
+                .andExpect(jsonPath("$.rejected[1].reason").value("Patente inválida"));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select last_name from customers where rut = '7.654.321-6'", String.class))
+                .isEqualTo("Pino Actualizada");
+        assertThat(jdbcTemplate.queryForObject(
+                "select v.year from vehicles v join customers c on c.id = v.customer_id "
+                        + "where v.license_plate = 'KL-MN-45' and c.rut = '7.654.321-6'", Integer.class))
+                .isEqualTo(2021);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from customers where rut = '20.111.222-2'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void ndjsonImportReassignsExistingVehicle() throws Exception {
+        mockMvc.perform(post("/api/clientes/importar").contentType(MediaType.APPLICATION_NDJSON).content("""
+                        {"rut":"15999888-6","firstName":"Eva","lastName":"Rojas","licensePlate":"GHJK77","brand":"Mazda","model":"3"}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicles").value(1));
+
+        String ndjson = """
+                {"rut":"9876543-3","firstName":"Tomás","lastName":"Vera","licensePlate":"gh-jk-77","brand":"Mazda","model":"3","year":2019}
+                {"rut":"9876543-3","firstName":"Tomás","lastName":"Vera","email":"sin-arroba","licensePlate":"AB123","brand":"Honda","model":"CB"}
+                """;
+
+        mockMvc.perform(post("/api/clientes/importar").contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected[0].reason").value("Email inválido"));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select c.rut from vehicles v join customers c on c.id = v.customer_id "
+                        + "where v.license_plate = 'GH-JK-77'", String.class))
+                .isEqualTo("9.876.543-3");
+    }
+
+    @Test
+    void malformedUploadRollsBackAndReturnsBadRequest() throws Exception {
+        String ndjson = """
+                {"rut":"11111111-1","firstName":"Ana","lastName":"Uno"}
+                {"rut":
+                """;
+
+        mockMvc.perform(post("/api/clientes/importar").contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+                .andExpect(status().isBadRequest());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from customers where rut = '11.111.111-1'", Integer.class)).isZero();
+    }
+
+    @Test
+    void apiWritesAndLookupsUseTheSameKeysAsTheImport() throws Exception {
+        mockMvc.perform(post("/api/clientes").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"rut":"51266633","firstName":"Iris","lastName":"Mora"}
+                        """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.rut").value("5.126.663-3"));
+        mockMvc.perform(post("/api/clientes").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"rut":"5.126.663-4","firstName":"Iris","lastName":"Mora"}
+                        """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/clientes/importar").contentType("text/csv").content("""
+                        rut,firstName,lastName,licensePlate,brand,model
+                        5.126.663-3,Iris,Mora Soto,pq rs 12,Kia,Morning
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from customers where rut like '5.126.663%'", Integer.class)).isEqualTo(1);
+        mockMvc.perform(get("/api/clientes").param("rut", "5126663-3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].lastName").value("Mora Soto"));
+        mockMvc.perform(get("/api/vehiculos").param("plate", "PQRS12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].model").value("Morning"));
+    }
+
+    @Test
+    void rutsAndPlatesAreNormalized() {
+        assertThat(Ruts.normalize("12345678-5")).contains("12.345.678-5");
+        assertThat(Ruts.normalize("10.000.013-k")).contains("10.000.013-K");
+        assertThat(Ruts.normalize("12.345.678-4")).isEmpty();
+        assertThat(Ruts.canonical("12345678-9")).isEqualTo("12.345.678-9");
+        assertThat(Plates.normalize("bb cl 10")).contains("BB-CL-10");
+        assertThat(Plates.normalize("ab1234")).contains("AB-12-34");
+        assertThat(Plates.normalize("abc12")).contains("ABC-12");
+        assertThat(Plates.normalize("A1")).isEmpty();
+    }
+}
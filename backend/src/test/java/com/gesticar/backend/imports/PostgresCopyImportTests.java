@@ -0,0 +1,97 @@
+package com.gesticar.backend.imports;
+
+import com.gesticar.backend.domain.Ruts;
+import com.gesticar.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PostgresCopyImportTests extends PostgresIntegrationTest {
+
+    private static final int ROWS = 100_000;
+    private static final int FIRST_BODY = 30_000_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void copiesAndMergesOneHundredThousandRows() {
+        String csv = csv("Nombre, \"con comillas\"");
+
+        assertTimeout(Duration.ofSeconds(60), () -> mockMvc.perform(post("/api/clientes/importar")
+                        .contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(ROWS + 1))
+                .andExpect(jsonPath("$.customers").value(ROWS))
+                .andExpect(jsonPath("$.vehicles").value(ROWS))
+                .andExpect(jsonPath("$.rejected[0].row").value(ROWS + 1)));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from customers where rut like '3_.___.___-_'",
+                Integer.class)).isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject("select first_name from customers where rut = ?", String.class,
+                Ruts.normalize(rut(FIRST_BODY)).orElseThrow())).isEqualTo("Nombre, \"con comillas\"");
+    }
+
+    @Test
+    void reimportUpdatesExistingRowsInsteadOfDuplicating() throws Exception {
+        String csv = """
+                rut,firstName,lastName,licensePlate,brand,model,year
+                %s,Ana,Vieja,TU-VW-31,Kia,Rio,2018
+                %s,Ana,Nueva,tuvw31,Kia,Rio,2019
+                """.formatted(rut(29_999_999), rut(29_999_999));
+
+        mockMvc.perform(post("/api/clientes/importar").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers").value(1))
+                .andExpect(jsonPath("$.vehicles").value(1));
+        mockMvc.perform(post("/api/clientes/importar").contentType("text/csv").content(csv))
+                .andExpect(status().isOk());
+
+        assertThat(jdbcTemplate.queryForMap(
+                "select c.last_name, v.year, c.version from customers c join vehicles v on v.customer_id = c.id "
+                        + "where v.license_plate = 'TU-VW-31'"))
+                .containsEntry("last_name", "Nueva")
+                .containsEntry("year", 2019)
+                .containsEntry("version", 1L);
+    }
+
+    private static String csv(String firstName) {
+        StringBuilder csv = new StringBuilder("rut,firstName,lastName,email,licensePlate,brand,model,year\n");
+        String quoted = "\"" + firstName.replace("\"", "\"\"") + "\"";
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(rut(FIRST_BODY + i)).append(',').append(quoted).append(",Carga,carga@correo.cl,")
+                    .append(plate(i)).append(",Kia,Rio,2020\n");
+        }
+        return csv.append("no-es-rut,a,b,,,,,\n").toString();
+    }
+
+    private static String plate(int i) {
+        return new String(new char[]{
+                (char) ('A' + i % 26), (char) ('A' + i / 26 % 26), (char) ('A' + i / 676 % 26),
+                (char) ('A' + i / 17_576 % 26)}) + String.format("%02d", i % 100);
+    }
+
+    private static String rut(int body) {
+        String digits = Integer.toString(body);
+        int sum = 0;
+        int factor = 2;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            sum += (digits.charAt(i) - '0') * factor;
+            factor = factor == 7 ? 2 : factor + 1;
+        }
+        int rest = 11 - sum % 11;
+        return digits + "-" + (rest == 11 ? "0" : rest == 10 ? "K" : Integer.toString(rest));
+    }
+}
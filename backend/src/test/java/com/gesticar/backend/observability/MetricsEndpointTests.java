@@ -0,0 +1,66 @@
+package com.gesticar.backend.observability;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("h2")
+class MetricsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void prometheusScrapeCoversRequestsPoolHibernateAndJvm() throws Exception {
+        mockMvc.perform(get("/api/clientes")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_bucket\\{.*handler=\"CustomerController#findAll\".*"
+                        + "status=\"200\".*uri=\"/api/clientes\"")
+                .contains("hikaricp_connections_active")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("jvm_gc_memory_allocated_bytes_total")
+                .contains("gesticar_counters_reconcile_skipped_total");
+    }
+
+    @Test
+    void hibernateEndpointReportsTheSlowestQuery() throws Exception {
+        StatisticsImplementor statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/clientes/1")).andExpect(status().isOk());
+        statistics.queryExecuted("select c from Customer c order by c.lastName", 25, 250);
+
+        mockMvc.perform(get("/actuator/hibernate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.queryExecutions").value(greaterThan(1)))
+                .andExpect(jsonPath("$.slowestQueryMillis").value(250))
+                .andExpect(jsonPath("$.slowestQuery").value("select c from Customer c order by c.lastName"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.gesticar.backend.observability;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=none",
+        "gesticar.sql.warn-statements=3",
+        "gesticar.sql.warn-repeated-statements=3"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@ExtendWith(OutputCaptureExtension.class)
+class ServerTimingTests {
+
+    private static final String SERVER_TIMING =
+            "db;dur=\\d+\\.\\d{2};desc=\"%d sql\", serialization;dur=\\d+\\.\\d{2}, app;dur=\\d+\\.\\d{2}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ServerTimingFilter serverTimingFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void jsonResponsesCarryTheTimingBreakdown() throws Exception {
+        mockMvc.perform(get("/api/ots/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER,
+                        matchesPattern(SERVER_TIMING.formatted(2))));
+    }
+
+    @Test
+    void bodylessResponsesStillCarryTheHeader() throws Exception {
+        String etag = mockMvc.perform(get("/api/ots/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/ots/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER,
+                        matchesPattern(SERVER_TIMING.formatted(1))));
+    }
+
+    @Test
+    void repeatedStatementShapesAreReportedAsNPlusOne(CapturedOutput output) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet perRowLookups = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                for (long id = 1; id <= 4; id++) {
+                    jdbcTemplate.queryForList("select * from vehicles where customer_id = " + id);
+                }
+            }
+        };
+
+        serverTimingFilter.doFilter(new MockHttpServletRequest("GET", "/api/clientes"), response,
+                new MockFilterChain(perRowLookups));
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).contains("desc=\"4 sql\"");
+        assertThat(output)
+                .contains("4 sentencias SQL (umbral 3)")
+                .contains("Posible N+1 en GET /api/clientes: 4 ejecuciones de [select * from vehicles where customer_id = ?]");
+    }
+}
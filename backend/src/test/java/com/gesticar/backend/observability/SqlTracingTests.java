@@ -0,0 +1,92 @@
+package com.gesticar.backend.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTracingTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Queue<String> lines = new ConcurrentLinkedQueue<>();
+    private SqlTraceWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.destroy();
+    }
+
+    @Test
+    void sampledStatementsAreWrittenAsRedactedJsonLines() throws InterruptedException {
+        writer = new SqlTraceWriter(objectMapper, 100, lines::add);
+        JdbcTemplate jdbc = tracedJdbc(new SqlTraceListener(writer, 1.0, Duration.ofHours(1),
+                ParameterCapture.REDACTED));
+
+        jdbc.queryForMap("select ? as rut, ? as id", "12.345.678-9", 7);
+
+        assertThat(awaitLine())
+                .contains("\"sql\":\"select ? as rut, ? as id\"")
+                .contains("\"parameters\":[\"***(12)\",7]")
+                .contains("\"slow\":false")
+                .doesNotContain("12.345.678-9");
+    }
+
+    @Test
+    void slowStatementsBypassSampling() throws InterruptedException {
+        writer = new SqlTraceWriter(objectMapper, 100, lines::add);
+        JdbcTemplate jdbc = tracedJdbc(new SqlTraceListener(writer, 0.0, Duration.ZERO, ParameterCapture.NONE));
+
+        jdbc.queryForObject("select count(*) from information_schema.tables", Long.class);
+
+        assertThat(awaitLine()).contains("\"slow\":true").contains("\"parameters\":[]");
+    }
+
+    @Test
+    void aStalledSinkDropsRecordsInsteadOfBlockingCallers() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        writer = new SqlTraceWriter(objectMapper, 10, line -> {
+            try {
+                stalled.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            writer.offer(new SqlTraceRecord(Instant.now(), "test", 0, false, true, 0, "select 1", List.of()));
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        stalled.countDown();
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(writer.dropped()).isGreaterThanOrEqualTo(10_000 - 11);
+    }
+
+    private JdbcTemplate tracedJdbc(SqlTraceListener listener) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-trace;DB_CLOSE_DELAY=-1");
+        return new JdbcTemplate(ProxyDataSourceBuilder.create(h2).listener(listener).build());
+    }
+
+    private String awaitLine() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (lines.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(lines).isNotEmpty();
+        return lines.poll();
+    }
+}
@@ -0,0 +1,225 @@
+package com.gesticar.backend.outbox;
+
+import com.gesticar.backend.domain.OutboxEvent;
+import com.gesticar.backend.domain.OutboxEventType;
+import com.gesticar.backend.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {"gesticar.outbox.relay.max-attempts=3", "gesticar.outbox.relay.retry-backoff=1m"})
+class OutboxRelayTests {
+
+    private static final String POISON = "{\"title\":\"Veneno\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private CapturingListener listener;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAllInBatch();
+        listener.messages.clear();
+        listener.insideTransaction.clear();
+        jdbcTemplate.update("delete from outbox_events_dead");
+    }
+
+    @Test
+    void workOrderChangesAreRecordedWithTheirOutboxEvents() throws Exception {
+        mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code":"OT-OUTBOX-1","description":"Cambio de aceite","customerId":1,"vehicleId":1}
+                                """))
+                .andExpect(status().isCreated());
+        Long workOrderId = jdbcTemplate.queryForObject("select id from work_orders where code = 'OT-OUTBOX-1'",
+                Long.class);
+        mockMvc.perform(patch("/api/ots/{id}/estado", workOrderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"status":"INICIADA"}
+                                """))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/tareas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title":"Drenar aceite","workOrderId":%d}
+                                """.formatted(workOrderId)))
+                .andExpect(status().isCreated());
+
+        assertThat(outboxEventRepository.findAll(Sort.by("id")))
+                .extracting(OutboxEvent::getAggregateId, OutboxEvent::getEventType)
+                .containsExactly(
+                        tuple(workOrderId, OutboxEventType.WORK_ORDER_CREATED),
+                        tuple(workOrderId, OutboxEventType.WORK_ORDER_STATUS_CHANGED),
+                        tuple(workOrderId, OutboxEventType.TASK_ADDED));
+    }
+
+    @Test
+    void rejectedWorkOrderLeavesNoOutboxEvent() throws Exception {
+        mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code":"OT-OUTBOX-2","description":"Frenos","customerId":999999}
+                                """))
+                .andExpect(status().isNotFound());
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void relayPublishesPendingEventsAndDeletesThem() {
+        insertEvents(3);
+
+        assertThat(outboxRelay.relayPending()).isEqualTo(3);
+
+        assertThat(listener.messages).extracting(OutboxMessage::type).containsOnly(OutboxEventType.TASK_ADDED);
+        assertThat(listener.messages.get(0).payload()).isEqualTo("{\"title\":\"Evento\"}");
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void relayPublishesOutsideTheClaimTransaction() {
+        insertEvents(2);
+
+        outboxRelay.relayPending();
+
+        assertThat(listener.insideTransaction).containsExactly(false, false);
+    }
+
+    @Test
+    void failingEventsAreRetriedAndParkedAfterMaxAttempts() {
+        insertEvents(1);
+        insertEvents(1, POISON);
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(2);
+        assertThat(listener.messages).extracting(OutboxMessage::payload).containsExactly("{\"title\":\"Evento\"}");
+        assertThat(outboxEventRepository.findAll())
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getAttempts()).isEqualTo(1);
+                    assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now());
+                });
+
+        for (int attempt = 2; attempt <= 3; attempt++) {
+            jdbcTemplate.update("update outbox_events set available_at = ?", LocalDateTime.now().minusSeconds(1));
+            assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+        }
+
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForMap("select attempts, last_error from outbox_events_dead"))
+                .containsEntry("attempts", 3)
+                .containsEntry("last_error", "Destino rechazó el evento");
+    }
+
+    @Test
+    void concurrentClaimsSkipLockedRows() throws Exception {
+        insertEvents(4);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(tx -> {
+            List<Long> ids = outboxEventRepository.claimBatch(LocalDateTime.now(), 2).stream()
+                    .map(OutboxEvent::getId).toList();
+            claimed.countDown();
+            await(release);
+            return ids;
+        }));
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> second = transactionTemplate.execute(tx -> outboxEventRepository
+                .claimBatch(LocalDateTime.now(), 10).stream().map(OutboxEvent::getId).toList());
+        release.countDown();
+
+        List<Long> firstIds = first.get(10, TimeUnit.SECONDS);
+        assertThat(firstIds).hasSize(2);
+        assertThat(second).doesNotContainAnyElementsOf(firstIds);
+    }
+
+    private void insertEvents(int count) {
+        insertEvents(count, "{\"title\":\"Evento\"}");
+    }
+
+    private void insertEvents(int count, String payload) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (int i = 0; i < count; i++) {
+                outboxEventRepository.save(new OutboxEvent(OutboxWriter.WORK_ORDER, 1L, OutboxEventType.TASK_ADDED,
+                        payload, LocalDateTime.now().minusSeconds(1)));
+            }
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+
+        @Bean
+        CapturingListener capturingListener() {
+            return new CapturingListener();
+        }
+    }
+
+    static class CapturingListener {
+
+        private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+        private final List<Boolean> insideTransaction = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void on(OutboxMessage message) {
+            insideTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            if (POISON.equals(message.payload())) {
+                throw new IllegalStateException("Destino rechazó el evento");
+            }
+            messages.add(message);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.gesticar.backend.repository;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.WorkOrderSearchRequest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.gesticar.backend.repository.CapturingStatementInspector")
+@ActiveProfiles("h2")
+class RepositoryQueryPlanTests {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> filteredQueries() {
+        return Stream.of(
+                query("CustomerRepository.findResponseByRut",
+                        t -> t.customerRepository.findResponseByRut("12.345.678-9")),
+                query("CustomerRepository.findResponsePageAfter",
+                        t -> t.customerRepository.findResponsePageAfter(1L, Pageable.ofSize(10))),
+                query("VehicleRepository.findResponseByLicensePlate",
+                        t -> t.vehicleRepository.findResponseByLicensePlate("AA-BB-11")),
+                query("VehicleRepository.findResponsePageByCustomerIdAfter",
+                        t -> t.vehicleRepository.findResponsePageByCustomerIdAfter(1L, 0L, Pageable.ofSize(10))),
+                query("WorkOrderRepository.findResponsePageByCustomerId",
+                        t -> t.workOrderRepository.findResponsePageByCustomerId(1L, Pageable.ofSize(10))),
+                query("WorkOrderRepository.findResponsePageByCustomerIdBefore",
+                        t -> t.workOrderRepository.findResponsePageByCustomerIdBefore(1L, LocalDateTime.now(), 1L,
+                                Pageable.ofSize(10))),
+                query("WorkOrderRepository.findVersionTagById", t -> t.workOrderRepository.findVersionTagById(1L)),
+                query("WorkOrderRepository.findResponseById", t -> t.workOrderRepository.findResponseById(1L)),
+                query("WorkOrderRepository.search(status)", t -> t.workOrderRepository.search(
+                        new WorkOrderSearchRequest(WorkOrderStatus.INICIADA, null, null, null, null, null, null),
+                        null, Pageable.ofSize(10))),
+                query("WorkOrderRepository.search(plate)", t -> t.workOrderRepository.search(
+                        new WorkOrderSearchRequest(null, "AA-BB-11", null, null, null, null, null),
+                        null, Pageable.ofSize(10))),
+                query("TaskRepository.findResponsePageByWorkOrderIdAfter",
+                        t -> t.taskRepository.findResponsePageByWorkOrderIdAfter(1L, 0L, Pageable.ofSize(10))),
+                query("BudgetRepository.findResponsePageByWorkOrderIdAfter",
+                        t -> t.budgetRepository.findResponsePageByWorkOrderIdAfter(1L, 0L, Pageable.ofSize(10)))
+        );
+    }
+
+    private static Arguments query(String name, Consumer<RepositoryQueryPlanTests> call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filteredQueries")
+    void filteredQueriesNeverScanTheWholeTable(String name, Consumer<RepositoryQueryPlanTests> call) {
+        CapturingStatementInspector.drain();
+        call.accept(this);
+        List<String> statements = CapturingStatementInspector.drain();
+
+        assertThat(statements).as(name).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as(name + "\n" + plan).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (java.sql.PreparedStatement statement) -> {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, 1);
+            }
+            try (var resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.gesticar.backend.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SessionFactory sessionFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void creatingWorkOrdersReusesCachedCustomerAndVehicle() throws Exception {
+        createWorkOrder("OT-2LC-1");
+        long loadsAfterFirstCreate = statistics.getEntityLoadCount();
+
+        createWorkOrder("OT-2LC-2");
+
+        assertThat(loadsAfterFirstCreate).isPositive();
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loadsAfterFirstCreate);
+        assertThat(statistics.getDomainDataRegionStatistics("customers").getHitCount())
+                .isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("vehicles").getHitCount())
+                .isPositive();
+    }
+
+    private void createWorkOrder(String code) throws Exception {
+        mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"code":"%s","description":"Cambio de aceite","customerId":1,"vehicleId":1}
+                                """.formatted(code)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,89 @@
+package com.gesticar.backend.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.pagination.KeysetPages;
+import com.gesticar.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PostgresWorkOrderTextSearchTests extends PostgresIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void triggersKeepVectorCurrentAndResultsAreRankedAndPaged() throws Exception {
+        long workOrderId = createWorkOrder("Ruido al frenar, revisar pastillas delanteras");
+        mockMvc.perform(post("/api/tareas/lote").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"workOrderId":%d,"tasks":[
+                          {"title":"Cambio de pastillas delanteras","estimatedHours":2},
+                          {"title":"Purgar frenos","details":"Cambiar líquido hidráulico"}
+                        ]}
+                        """.formatted(workOrderId)))
+                .andExpect(status().isCreated());
+
+        MvcResult first = mockMvc.perform(get("/api/ots/busqueda")
+                        .param("q", "pastillas delanteras").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(workOrderId))
+                .andExpect(jsonPath("$[0].snippet", containsString("<mark>pastillas</mark>")))
+                .andExpect(header().exists(KeysetPages.NEXT_CURSOR_HEADER))
+                .andReturn();
+
+        mockMvc.perform(get("/api/ots/busqueda").param("q", "pastillas delanteras").param("limit", "1")
+                        .param("cursor", first.getResponse().getHeader(KeysetPages.NEXT_CURSOR_HEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].code").value("OT-002"));
+
+        mockMvc.perform(get("/api/ots/busqueda").param("q", "hidráulico"))
+                .andExpect(jsonPath("$[0].id").value(workOrderId));
+
+        jdbcTemplate.update("delete from tasks where work_order_id = ?", workOrderId);
+
+        mockMvc.perform(get("/api/ots/busqueda").param("q", "hidráulico"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void escapesStoredTextBeforeHighlighting() throws Exception {
+        createWorkOrder("<script>alert('x')</script> & embrague patina");
+
+        mockMvc.perform(get("/api/ots/busqueda").param("q", "embrague"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].snippet", containsString("&lt;/script&gt; &amp;")))
+                .andExpect(jsonPath("$[0].snippet", matchesPattern("[^<>]*<mark>embrague</mark>[^<>]*")));
+    }
+
+    private long createWorkOrder(String description) throws Exception {
+        String body = mockMvc.perform(post("/api/ots").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "description", description, "customerId", 1, "vehicleId", 1))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,100 @@
+package com.gesticar.backend.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gesticar.backend.pagination.KeysetPages;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class WorkOrderTextSearchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void findsTaskDetailsWithHighlightedSnippet() throws Exception {
+        mockMvc.perform(get("/api/ots/busqueda").param("q", "filtro OEM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].code").value("OT-001"))
+                .andExpect(jsonPath("$[0].snippet", containsString("<mark>OEM</mark>")))
+                .andExpect(jsonPath("$[0].snippet", containsString("<mark>filtros</mark>")));
+    }
+
+    @Test
+    void ranksDescriptionMatchesFirstAndPagesWithCursor() throws Exception {
+        long workOrderId = createWorkOrder("Ruido al frenar, revisar pastillas delanteras");
+        mockMvc.perform(post("/api/tareas").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"title":"Cambio de pastillas delanteras","estimatedHours":2,"workOrderId":%d}
+                        """.formatted(workOrderId)))
+                .andExpect(status().isCreated());
+
+        MvcResult first = mockMvc.perform(get("/api/ots/busqueda")
+                        .param("q", "pastillas delanteras").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(workOrderId))
+                .andExpect(header().exists(KeysetPages.NEXT_CURSOR_HEADER))
+                .andReturn();
+
+        mockMvc.perform(get("/api/ots/busqueda").param("q", "pastillas delanteras").param("limit", "1")
+                        .param("cursor", first.getResponse().getHeader(KeysetPages.NEXT_CURSOR_HEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].code").value("OT-002"))
+                .andExpect(header().doesNotExist(KeysetPages.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void escapesStoredTextInSnippets() throws Exception {
+        createWorkOrder("<img src=x onerror=alert(1)> embrague patina");
+
+        mockMvc.perform(get("/api/ots/busqueda").param("q", "embrague"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].snippet", containsString("onerror=alert(1)&gt;")))
+                .andExpect(jsonPath("$[0].snippet", matchesPattern("[^<>]*<mark>embrague</mark>[^<>]*")));
+    }
+
+    @Test
+    void rejectsBlankQueries() throws Exception {
+        mockMvc.perform(get("/api/ots/busqueda").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void termsAreFoldedAndStemmed() {
+        assertThat(SearchTerms.of("Revisión de los FRENOS delanteros"))
+                .containsExactly("revision", "freno", "delantero");
+        assertThat(SearchTerms.term("motores")).isEqualTo(SearchTerms.term("motor"));
+    }
+
+    private long createWorkOrder(String description) throws Exception {
+        String body = mockMvc.perform(post("/api/ots").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"description":"%s","customerId":1,"vehicleId":1}
+                        """.formatted(description)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
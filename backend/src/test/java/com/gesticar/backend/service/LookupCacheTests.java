@@ -0,0 +1,117 @@
+package com.gesticar.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class LookupCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CustomerLookupService customerLookupService;
+
+    @Autowired
+    private VehicleLookupService vehicleLookupService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedRutLookupIsServedFromMemory() throws Exception {
+        mockMvc.perform(get("/api/clientes").param("rut", "12.345.678-9")).andExpect(status().isOk());
+        long afterFirstLookup = statistics.getPrepareStatementCount();
+
+        mockMvc.perform(get("/api/clientes").param("rut", "12.345.678-9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].firstName").value("Ana"));
+
+        assertThat(afterFirstLookup).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFirstLookup);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CustomerLookupService.BY_RUT)
+                .tag("result", "hit").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void creatingAVehicleReplacesACachedMiss() throws Exception {
+        mockMvc.perform(get("/api/vehiculos").param("plate", "ZZ-YY-99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(post("/api/vehiculos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"licensePlate":"ZZ-YY-99","brand":"Mazda","model":"3","customerId":1}
+                                """))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/vehiculos").param("plate", "zz-yy-99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].brand").value("Mazda"));
+    }
+
+    @Test
+    void missesAreNotCachedAndPlatesAreStoredUppercase() throws Exception {
+        mockMvc.perform(get("/api/vehiculos").param("plate", "XX-WW-77"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        assertThat(cacheManager.getCache(VehicleLookupService.BY_PLATE).get("XX-WW-77")).isNull();
+
+        mockMvc.perform(post("/api/vehiculos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"licensePlate":" xx-ww-77 ","brand":"Kia","model":"Rio","customerId":1}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.licensePlate").value("XX-WW-77"));
+
+        cacheManager.getCache(VehicleLookupService.BY_PLATE).clear();
+        mockMvc.perform(get("/api/vehiculos").param("plate", "xx-ww-77"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].brand").value("Kia"));
+    }
+
+    @Test
+    void idMissesAreNotCached() {
+        assertThat(customerLookupService.findById(987654L)).isEmpty();
+        assertThat(vehicleLookupService.findById(987654L)).isEmpty();
+
+        assertThat(cacheManager.getCache(CustomerLookupService.BY_ID).get(987654L)).isNull();
+        assertThat(cacheManager.getCache(VehicleLookupService.BY_ID).get(987654L)).isNull();
+    }
+}
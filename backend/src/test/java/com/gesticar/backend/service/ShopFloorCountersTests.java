@@ -0,0 +1,215 @@
+package com.gesticar.backend.service;
+
+import com.gesticar.backend.domain.WorkOrderStatus;
+import com.gesticar.backend.dto.ShopFloorCountersResponse;
+import com.gesticar.backend.observability.ServerTimingFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "gesticar.counters.reconcile-interval=1h")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class ShopFloorCountersTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShopFloorCounters counters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void countersFollowCreationTasksAndTransitions() throws Exception {
+        ShopFloorCountersResponse before = counters.snapshot();
+
+        Long id = createWorkOrder("OT-CONTADOR-1");
+        create("/api/tareas", """
+                {"title":"Cambio de pastillas","estimatedHours":3,"workOrderId":%d}
+                """.formatted(id));
+        create("/api/tareas/lote", """
+                {"workOrderId":%d,"tasks":[{"title":"Purgar frenos","estimatedHours":2},{"title":"Prueba"}]}
+                """.formatted(id));
+        changeStatus(id, "INICIADA");
+
+        ShopFloorCountersResponse started = counters.snapshot();
+        assertThat(started.total()).isEqualTo(before.total() + 1);
+        assertThat(started.byStatus().get(WorkOrderStatus.INICIADA))
+                .isEqualTo(before.byStatus().get(WorkOrderStatus.INICIADA) + 1);
+        assertThat(started.byStatus().get(WorkOrderStatus.BORRADOR))
+                .isEqualTo(before.byStatus().get(WorkOrderStatus.BORRADOR));
+        assertThat(started.openEstimatedHours()).isEqualTo(before.openEstimatedHours() + 5);
+
+        changeStatus(id, "FINALIZADA");
+
+        ShopFloorCountersResponse finished = counters.snapshot();
+        assertThat(finished.byStatus().get(WorkOrderStatus.FINALIZADA))
+                .isEqualTo(before.byStatus().get(WorkOrderStatus.FINALIZADA) + 1);
+        assertThat(finished.openEstimatedHours()).isEqualTo(before.openEstimatedHours());
+    }
+
+    @Test
+    void reconcileCorrectsDriftAgainstTheDatabase() {
+        jdbcTemplate.update("""
+                insert into work_orders (id, code, description, status, customer_id)
+                values (nextval('work_orders_id_seq'), 'OT-CONTADOR-DERIVA', 'Deriva', 'BORRADOR', 1)
+                """);
+
+        counters.reconcile();
+
+        ShopFloorCountersResponse snapshot = counters.snapshot();
+        assertThat(snapshot.total())
+                .isEqualTo(jdbcTemplate.queryForObject("select count(*) from work_orders", Long.class));
+        assertThat(snapshot.byStatus().get(WorkOrderStatus.BORRADOR)).isEqualTo(jdbcTemplate.queryForObject(
+                "select count(*) from work_orders where status = 'BORRADOR'", Long.class));
+        assertThat(snapshot.openEstimatedHours()).isEqualTo(jdbcTemplate.queryForObject("""
+                select coalesce(sum(t.estimated_hours), 0) from tasks t
+                join work_orders w on w.id = t.work_order_id
+                where w.status <> 'FINALIZADA'
+                """, Long.class));
+        assertThat(snapshot.reconciledAt()).isNotNull();
+    }
+
+    @Test
+    void reconcileWhileACreationCommitsDoesNotCountItTwice() {
+        counters.reconcile();
+        long before = counters.snapshot().byStatus().get(WorkOrderStatus.BORRADOR);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counters.reconcile();
+                }
+            });
+            jdbcTemplate.update("""
+                    insert into work_orders (id, code, description, status, customer_id)
+                    values (nextval('work_orders_id_seq'), 'OT-CONTADOR-CARRERA', 'Carrera', 'BORRADOR', 1)
+                    """);
+            counters.workOrderCreated(WorkOrderStatus.BORRADOR);
+        });
+
+        assertThat(counters.snapshot().byStatus().get(WorkOrderStatus.BORRADOR)).isEqualTo(before + 1);
+        counters.reconcile();
+        assertThat(counters.snapshot().byStatus().get(WorkOrderStatus.BORRADOR)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void reconcileUnderAnOngoingCommitFallsBackToAnExclusivePass() throws Exception {
+        insertWithoutCounters("OT-CONTADOR-EXCLUSIVA-DERIVA");
+        long skipped = counters.skippedReconciliations();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> commit = startBlockedCommit("OT-CONTADOR-EXCLUSIVA", release);
+        CompletableFuture.runAsync(release::countDown, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        counters.reconcile();
+        commit.get(5, TimeUnit.SECONDS);
+
+        assertThat(counters.skippedReconciliations()).isEqualTo(skipped);
+        assertThat(counters.snapshot().byStatus().get(WorkOrderStatus.BORRADOR)).isEqualTo(jdbcTemplate.queryForObject(
+                "select count(*) from work_orders where status = 'BORRADOR'", Long.class));
+    }
+
+    @Test
+    void reconcileThatNeverGetsAheadOfCommitsIsCountedAsSkipped() throws Exception {
+        long skipped = counters.skippedReconciliations();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> commit = startBlockedCommit("OT-CONTADOR-OMITIDA", release);
+        try {
+            counters.reconcile();
+        } finally {
+            release.countDown();
+        }
+        commit.get(5, TimeUnit.SECONDS);
+
+        assertThat(counters.skippedReconciliations()).isEqualTo(skipped + 1);
+    }
+
+    @Test
+    void countersEndpointNeverTouchesTheDatabase() throws Exception {
+        mockMvc.perform(get("/api/ots/contadores"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus.BORRADOR").isNumber())
+                .andExpect(jsonPath("$.openEstimatedHours").isNumber())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER, containsString("desc=\"0 sql\"")));
+    }
+
+    private Long createWorkOrder(String code) throws Exception {
+        create("/api/ots", """
+                {"code":"%s","description":"Frenos","customerId":1,"vehicleId":1}
+                """.formatted(code));
+        return jdbcTemplate.queryForObject("select id from work_orders where code = ?", Long.class, code);
+    }
+
+    private CompletableFuture<Void> startBlockedCommit(String code, CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch committing = new CountDownLatch(1);
+        CompletableFuture<Void> commit = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                tx -> {
+                    insertWithoutCounters(code);
+                    counters.workOrderCreated(WorkOrderStatus.BORRADOR);
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void beforeCompletion() {
+                            committing.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+                }));
+        assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+        return commit;
+    }
+
+    private void insertWithoutCounters(String code) {
+        jdbcTemplate.update("""
+                insert into work_orders (id, code, description, status, customer_id)
+                values (nextval('work_orders_id_seq'), ?, 'Concurrencia', 'BORRADOR', 1)
+                """, code);
+    }
+
+    private void create(String uri, String body) throws Exception {
+        mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+    }
+
+    private void changeStatus(Long id, String status) throws Exception {
+        mockMvc.perform(patch("/api/ots/{id}/estado", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"status":"%s"}
+                                """.formatted(status)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,136 @@
+package com.gesticar.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class WorkOrderCodeAllocatorTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkOrderCodeAllocator allocator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void workOrdersWithoutCodeGetOneFromTheServer() throws Exception {
+        mockMvc.perform(post("/api/ots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"description":"Cambio de aceite","customerId":1,"vehicleId":1}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.code").value(matchesPattern("OT-\\d{4,}")));
+    }
+
+    @Test
+    void concurrentAllocationsNeverRepeatACode() throws Exception {
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<? extends Future<?>> futures = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> {
+                        for (int n = 0; n < 200; n++) {
+                            codes.add(allocator.nextCode());
+                        }
+                    }))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(codes).hasSize(1600);
+    }
+
+    @Test
+    void offlineBlocksDoNotOverlapServerCodes() throws Exception {
+        String body = mockMvc.perform(post("/api/ots/codigos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.prefix").value(WorkOrderCodeAllocator.PREFIX))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode block = objectMapper.readTree(body);
+        long first = block.get("first").asLong();
+        long last = block.get("last").asLong();
+
+        assertThat(last - first + 1).isEqualTo(WorkOrderCodeAllocator.BLOCK_SIZE);
+        for (int i = 0; i < WorkOrderCodeAllocator.BLOCK_SIZE * 2; i++) {
+            long number = Long.parseLong(allocator.nextCode().substring(WorkOrderCodeAllocator.PREFIX.length()));
+            assertThat(number >= first && number <= last).isFalse();
+        }
+    }
+
+    @Test
+    void clientCodesInTheServerNamespaceMustComeFromAReservedBlock() throws Exception {
+        long serverNumber = Long.parseLong(allocator.nextCode().substring(WorkOrderCodeAllocator.PREFIX.length()));
+        createWithCode(WorkOrderCodeAllocator.PREFIX + (serverNumber + 1))
+                .andExpect(status().isBadRequest());
+
+        JsonNode block = objectMapper.readTree(mockMvc.perform(post("/api/ots/codigos"))
+                .andReturn().getResponse().getContentAsString());
+        createWithCode(WorkOrderCodeAllocator.PREFIX + block.get("last").asLong())
+                .andExpect(status().isCreated());
+        createWithCode("TALLER-SUR-15")
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void legacyCodesBelowTheServerRangeAreAccepted() throws Exception {
+        createWithCode("OT-042")
+                .andExpect(status().isCreated());
+        createWithCode(WorkOrderCodeAllocator.PREFIX + (WorkOrderCodeAllocator.FIRST_SERVER_NUMBER - 1))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void sequenceStartsAboveExistingServerCodes() {
+        Long start = jdbcTemplate.queryForObject("select nextval('work_order_code_seq')", Long.class);
+        Long highest = jdbcTemplate.queryForObject("""
+                select max(cast(substring(code, 4) as bigint)) from work_orders
+                where regexp_like(code, '^OT-[0-9]{1,18}$')
+                """, Long.class);
+
+        assertThat(start).isGreaterThanOrEqualTo(WorkOrderCodeAllocator.FIRST_SERVER_NUMBER).isGreaterThan(highest);
+    }
+
+    private ResultActions createWithCode(String code) throws Exception {
+        return mockMvc.perform(post("/api/ots")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"code":"%s","description":"OT sincronizada","customerId":1,"vehicleId":1}
+                        """.formatted(code)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.gesticar.backend.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"gesticar.db.admission.permits=1", "gesticar.db.admission.timeout=10ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class DatabaseAdmissionExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void inFlightExportCountsAgainstTheLimit() throws Exception {
+        MvcResult export = mockMvc.perform(get("/api/ots/exportar"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(get("/api/clientes")).andExpect(status().isServiceUnavailable());
+
+        mockMvc.perform(asyncDispatch(export)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/clientes")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,70 @@
+package com.gesticar.backend.web;
+
+import com.gesticar.backend.exception.ServiceUnavailableException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseAdmissionInterceptorTests {
+
+    private final DatabaseAdmissionInterceptor interceptor =
+            new DatabaseAdmissionInterceptor(1, Duration.ofMillis(20));
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void rejectsRequestsOnceEveryPermitIsTaken() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, response, null);
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, null))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, null)).isTrue();
+    }
+
+    @Test
+    void keepsThePermitWhileAsyncHandlingRuns() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+        startAsync(request);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        assertThat(interceptor.availablePermits()).isZero();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+        request.getAsyncContext().complete();
+
+        assertThat(interceptor.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void releasesThePermitWhenAsyncHandlingEndsWithoutADispatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+        startAsync(request);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        request.getAsyncContext().complete();
+
+        assertThat(interceptor.availablePermits()).isEqualTo(1);
+    }
+
+    private void startAsync(MockHttpServletRequest request) {
+        request.setAsyncSupported(true);
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, response);
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+        asyncWebRequest.startAsync();
+    }
+}
@@ -0,0 +1,36 @@
+package com.gesticar.backend.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"gesticar.db.admission.permits=0", "gesticar.db.admission.timeout=10ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class DatabaseAdmissionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void saturatedPoolAnswersServiceUnavailable() throws Exception {
+        mockMvc.perform(get("/api/clientes"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.message").value("Servicio saturado, intenta nuevamente"));
+    }
+
+    @Test
+    void actuatorEndpointsBypassTheLimit() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+}